@@ -0,0 +1,119 @@
+package org.ascent.tools;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ResourceUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+public class ResourceCompressor {
+
+    private final static Logger logger = Logger.getLogger(ResourceCompressor.class.getName());
+
+    private final static Set<String> roots = Set.of("static/", "META-INF/resources/webjars/");
+
+    private final static Set<String> extensions = Set.of("css", "js", "ttf", "eot");
+
+    private final static Set<String> fontExtensions = Set.of("ttf", "eot");
+
+    private final static int minimumSize = 1024;
+
+    public static void main(String[] args) throws IOException {
+        Path outputDirectory = Path.of(args[0]);
+
+        boolean brotliAvailable = isBrotliAvailable();
+        if (!brotliAvailable) {
+            logger.warning("Brotli encoder is not available on this platform, only gzip variants will be generated");
+        }
+
+        PathMatchingResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
+        int compressed = 0;
+        for (String root : roots) {
+            for (Resource resource : resourcePatternResolver.getResources("classpath*:" + root + "**/*.*")) {
+                String url = resource.getURL().toString();
+                String path = url.substring(url.lastIndexOf(root));
+
+                String extension = path.substring(path.lastIndexOf('.') + 1);
+                boolean packaged = ResourceUtils.isJarURL(resource.getURL());
+
+                if (!resource.isReadable() || !extensions.contains(extension)) {
+                    continue;
+                }
+
+                if (packaged && !path.contains(".min.") && !fontExtensions.contains(extension)) {
+                    continue;
+                }
+
+                byte[] content;
+                try (InputStream inputStream = resource.getInputStream()) {
+                    content = inputStream.readAllBytes();
+                }
+
+                if (content.length < minimumSize) {
+                    continue;
+                }
+
+                Path gzipPath = outputDirectory.resolve(path + ".gz");
+                boolean gzipPackaged = packaged && resource.createRelative(resource.getFilename() + ".gz").exists();
+                if (!gzipPackaged && isStale(gzipPath, resource)) {
+                    compressed += write(gzipPath, gzip(content), content.length);
+                }
+
+                Path brotliPath = outputDirectory.resolve(path + ".br");
+                if (brotliAvailable && isStale(brotliPath, resource)) {
+                    compressed += write(brotliPath, brotli(content), content.length);
+                }
+            }
+        }
+
+        logger.info("Generated " + compressed + " precompressed resource variants in " + outputDirectory);
+    }
+
+    private static boolean isBrotliAvailable() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (Throwable throwable) {
+            return false;
+        }
+    }
+
+    private static boolean isStale(Path path, Resource resource) throws IOException {
+        return !Files.exists(path) || Files.getLastModifiedTime(path).toMillis() < resource.lastModified();
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(content.length);
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            gzipOutputStream.write(content);
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] content) throws IOException {
+        return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+    }
+
+    private static int write(Path path, byte[] content, int originalLength) throws IOException {
+        if (content.length >= originalLength) {
+            return 0;
+        }
+
+        Files.createDirectories(path.getParent());
+        Files.write(path, content);
+        return 1;
+    }
+}
\ No newline at end of file
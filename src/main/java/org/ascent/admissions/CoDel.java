@@ -0,0 +1,40 @@
+package org.ascent.admissions;
+
+public class CoDel {
+
+    private final long targetNanos;
+
+    private final long intervalNanos;
+
+    private long intervalEnd;
+
+    private long minDelayNanos = Long.MAX_VALUE;
+
+    private volatile boolean overloaded = false;
+
+    public CoDel(long targetNanos, long intervalNanos, long nowNanos) {
+        if (targetNanos <= 0 || intervalNanos < targetNanos) {
+            throw new IllegalArgumentException("Target must be positive and not longer than the interval");
+        }
+
+        this.targetNanos = targetNanos;
+        this.intervalNanos = intervalNanos;
+        this.intervalEnd = nowNanos + intervalNanos;
+    }
+
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    public synchronized boolean shouldDrop(long delayNanos, long nowNanos) {
+        if (nowNanos - intervalEnd >= 0) {
+            overloaded = minDelayNanos != Long.MAX_VALUE && minDelayNanos > targetNanos;
+            minDelayNanos = Long.MAX_VALUE;
+            intervalEnd = nowNanos + intervalNanos;
+        }
+
+        minDelayNanos = Math.min(minDelayNanos, delayNanos);
+
+        return delayNanos > (overloaded ? targetNanos : intervalNanos);
+    }
+}
\ No newline at end of file
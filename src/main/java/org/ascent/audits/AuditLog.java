@@ -0,0 +1,185 @@
+package org.ascent.audits;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.ascent.enums.AuditType;
+import org.ascent.properties.AuditProperties;
+import org.ascent.runners.WarmupRequests;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+@Component
+public class AuditLog implements SmartLifecycle {
+
+    private final static Logger logger = Logger.getLogger(AuditLog.class.getName());
+
+    public final static String subjectAttribute = AuditLog.class.getName() + ".subject";
+
+    private final static int drainLimit = 1024;
+
+    private final static long idleNanos = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AuditProperties auditProperties;
+
+    private final AuditRing auditRing;
+
+    private final Counter written;
+
+    private final Counter dropped;
+
+    private final Counter failed;
+
+    private volatile boolean running = false;
+
+    private Thread thread;
+
+    private MappedByteBuffer segment;
+
+    private int position;
+
+    private boolean dirty = false;
+
+    public AuditLog(AuditProperties auditProperties, MeterRegistry meterRegistry) {
+        this.auditProperties = auditProperties;
+        this.auditRing = new AuditRing(auditProperties.getRingCapacity());
+        this.written = counter(meterRegistry, "written");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.failed = counter(meterRegistry, "failed");
+
+        Gauge.builder("ascent.audit.queued", auditRing, AuditRing::size)
+                .description("Audit records waiting to be written")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ascent.audit.records")
+                .description("Audit records, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public static void subject(HttpServletRequest httpServletRequest, String subject) {
+        httpServletRequest.setAttribute(subjectAttribute, subject);
+    }
+
+    public void record(HttpServletRequest httpServletRequest, AuditType type) {
+        if (WarmupRequests.isWarmup(httpServletRequest)) {
+            return;
+        }
+
+        record(type, httpServletRequest.getRemoteAddr(), (String) httpServletRequest.getAttribute(subjectAttribute));
+    }
+
+    public void record(AuditType type, String address, String subject) {
+        if (auditProperties.isEnabled() && !auditRing.offer(type, address, subject, System.currentTimeMillis())) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!auditProperties.isEnabled()) {
+            return;
+        }
+
+        running = true;
+        thread = new Thread(this::drain, "audit-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        if (thread == null) {
+            return;
+        }
+
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        long flushIntervalNanos = auditProperties.getFlushInterval().toNanos();
+        long flushedAt = System.nanoTime();
+
+        while (running || auditRing.size() > 0) {
+            int drained = auditRing.drain(this::append, drainLimit);
+
+            if (dirty && (System.nanoTime() - flushedAt >= flushIntervalNanos || !running)) {
+                segment.force();
+                dirty = false;
+                flushedAt = System.nanoTime();
+            }
+
+            if (drained == 0) {
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+
+        if (dirty) {
+            segment.force();
+        }
+    }
+
+    private void append(long sequence, long occurredOn, AuditType type, String address, String subject) {
+        if (segment == null || position + AuditRecord.size > segment.capacity()) {
+            try {
+                rotate(occurredOn);
+            } catch (IOException ioException) {
+                segment = null;
+                failed.increment();
+                logger.severe("Opening audit segment failed: " + ioException.getMessage());
+                return;
+            }
+        }
+
+        AuditRecord.encode(segment, position, sequence, occurredOn, type, address, subject);
+        position += AuditRecord.size;
+        dirty = true;
+        written.increment();
+    }
+
+    private void rotate(long occurredOn) throws IOException {
+        if (segment != null && dirty) {
+            segment.force();
+            dirty = false;
+        }
+
+        segment = AuditSegment.create(auditProperties.getDirectory(), occurredOn,
+                auditProperties.getSegmentSize().toBytes());
+        position = AuditRecord.size;
+
+        List<Path> segments = AuditSegment.list(auditProperties.getDirectory());
+        for (Path path : segments.subList(0, Math.max(0, segments.size() - auditProperties.getMaxSegments()))) {
+            Files.deleteIfExists(path);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package org.ascent.audits;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.ascent.enums.AuditType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+@Getter
+@AllArgsConstructor
+public class AuditRecord {
+
+    public final static int size = 128;
+
+    private final static int typeOffset = 16;
+
+    private final static int addressLengthOffset = 17;
+
+    private final static int subjectLengthOffset = 18;
+
+    private final static int addressOffset = 24;
+
+    private final static int addressCapacity = 40;
+
+    private final static int subjectOffset = 64;
+
+    private final static int subjectCapacity = 60;
+
+    private final static int checksumOffset = 124;
+
+    private final long sequence;
+
+    private final Instant occurredOn;
+
+    private final AuditType type;
+
+    private final String address;
+
+    private final String subject;
+
+    public static void encode(ByteBuffer buffer, int offset, long sequence, long occurredOn, AuditType type,
+                              String address, String subject) {
+        for (int i = 0; i < size; i += Long.BYTES) {
+            buffer.putLong(offset + i, 0);
+        }
+
+        buffer.putLong(offset, occurredOn);
+        buffer.putLong(offset + Long.BYTES, sequence);
+        buffer.put(offset + typeOffset, type.getCode());
+        buffer.put(offset + addressLengthOffset, (byte) put(buffer, offset + addressOffset, addressCapacity, address));
+        buffer.put(offset + subjectLengthOffset, (byte) put(buffer, offset + subjectOffset, subjectCapacity, subject));
+        buffer.putInt(offset + checksumOffset, checksum(buffer, offset));
+    }
+
+    public static AuditRecord decode(ByteBuffer buffer, int offset) {
+        long occurredOn = buffer.getLong(offset);
+        int checksum = buffer.getInt(offset + checksumOffset);
+
+        if (occurredOn == 0 || checksum != checksum(buffer, offset)) {
+            return null;
+        }
+
+        return new AuditRecord(buffer.getLong(offset + Long.BYTES), Instant.ofEpochMilli(occurredOn),
+                AuditType.fromCode(buffer.get(offset + typeOffset)),
+                get(buffer, offset + addressOffset, buffer.get(offset + addressLengthOffset)),
+                get(buffer, offset + subjectOffset, buffer.get(offset + subjectLengthOffset)));
+    }
+
+    private static int put(ByteBuffer buffer, int offset, int capacity, String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, capacity);
+
+        while (length < bytes.length && length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+
+        buffer.put(offset, bytes, 0, length);
+        return length;
+    }
+
+    private static String get(ByteBuffer buffer, int offset, int length) {
+        if (length == 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length & 0xFF];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset) {
+        CRC32C crc32C = new CRC32C();
+        crc32C.update(buffer.slice(offset, checksumOffset));
+        return (int) crc32C.getValue();
+    }
+}
\ No newline at end of file
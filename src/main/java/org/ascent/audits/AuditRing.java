@@ -0,0 +1,101 @@
+package org.ascent.audits;
+
+import org.ascent.enums.AuditType;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class AuditRing {
+
+    public interface Handler {
+
+        void on(long sequence, long occurredOn, AuditType type, String address, String subject);
+    }
+
+    private final int capacity;
+
+    private final int mask;
+
+    private final long[] occurredOns;
+
+    private final AuditType[] types;
+
+    private final String[] addresses;
+
+    private final String[] subjects;
+
+    private final AtomicLongArray published;
+
+    private final AtomicLong claimed = new AtomicLong();
+
+    private volatile long consumed = 0;
+
+    public AuditRing(int capacity) {
+        this.capacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.occurredOns = new long[this.capacity];
+        this.types = new AuditType[this.capacity];
+        this.addresses = new String[this.capacity];
+        this.subjects = new String[this.capacity];
+        this.published = new AtomicLongArray(this.capacity);
+
+        for (int i = 0; i < this.capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    public boolean offer(AuditType type, String address, String subject, long occurredOn) {
+        long sequence;
+
+        do {
+            sequence = claimed.get();
+
+            if (sequence - consumed >= capacity) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) sequence & mask;
+        occurredOns[index] = occurredOn;
+        types[index] = type;
+        addresses[index] = address;
+        subjects[index] = subject;
+        published.lazySet(index, sequence);
+
+        return true;
+    }
+
+    public int drain(Handler handler, int limit) {
+        long sequence = consumed;
+        int drained = 0;
+
+        while (drained < limit) {
+            int index = (int) sequence & mask;
+
+            if (published.get(index) != sequence) {
+                break;
+            }
+
+            handler.on(sequence, occurredOns[index], types[index], addresses[index], subjects[index]);
+            addresses[index] = null;
+            subjects[index] = null;
+
+            sequence++;
+            drained++;
+        }
+
+        if (drained > 0) {
+            consumed = sequence;
+        }
+
+        return drained;
+    }
+
+    public int size() {
+        return (int) (claimed.get() - consumed);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package org.ascent.audits;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class AuditSegment {
+
+    public final static long magic = 0x4153434155444954L;
+
+    public final static int version = 1;
+
+    private final static DateTimeFormatter fileName = DateTimeFormatter.ofPattern("'audit-'yyyyMMdd'T'HHmmssSSS")
+            .withZone(ZoneOffset.UTC);
+
+    public static MappedByteBuffer create(Path directory, long createdOn, long size) throws IOException {
+        Files.createDirectories(directory);
+
+        String name = fileName.format(Instant.ofEpochMilli(createdOn));
+        Path path = directory.resolve(name + "-0000.log");
+        for (int i = 1; Files.exists(path); i++) {
+            path = directory.resolve(name + "-" + String.format("%04d", i) + ".log");
+        }
+
+        long length = Math.max(2, size / AuditRecord.size) * AuditRecord.size;
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buffer.putLong(0, magic);
+            buffer.putInt(Long.BYTES, version);
+            buffer.putInt(Long.BYTES + Integer.BYTES, AuditRecord.size);
+            buffer.putLong(Long.BYTES * 2, createdOn);
+            return buffer;
+        }
+    }
+
+    public static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().matches("audit-.*\\.log"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public static List<AuditRecord> read(Path path) throws IOException {
+        List<AuditRecord> auditRecords = new ArrayList<>();
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+
+            if (buffer.limit() < AuditRecord.size || buffer.getLong(0) != magic
+                    || buffer.getInt(Long.BYTES + Integer.BYTES) != AuditRecord.size) {
+                throw new IOException("Not an audit segment: " + path);
+            }
+
+            for (int offset = AuditRecord.size; offset + AuditRecord.size <= buffer.limit(); offset += AuditRecord.size) {
+                AuditRecord auditRecord = AuditRecord.decode(buffer, offset);
+
+                if (auditRecord == null) {
+                    break;
+                }
+
+                auditRecords.add(auditRecord);
+            }
+        }
+
+        return auditRecords;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package org.ascent.bulkheads;
+
+public class AdaptiveLimit {
+
+    private final static double sampleSmoothing = 0.1;
+
+    private final static double baselineDrift = 0.01;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double backoffRatio;
+
+    private final double latencyTolerance;
+
+    private double limit;
+
+    private double recentNanos = 0;
+
+    private double baselineNanos = 0;
+
+    private volatile int currentLimit;
+
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double latencyTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.currentLimit = (int) limit;
+    }
+
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    public synchronized double getBaselineNanos() {
+        return baselineNanos;
+    }
+
+    public synchronized double getRecentNanos() {
+        return recentNanos;
+    }
+
+    public synchronized void onSample(long latencyNanos, int inFlight, boolean dropped) {
+        if (!dropped) {
+            if (baselineNanos == 0) {
+                recentNanos = latencyNanos;
+                baselineNanos = latencyNanos;
+            } else {
+                recentNanos += (latencyNanos - recentNanos) * sampleSmoothing;
+                baselineNanos += (latencyNanos - baselineNanos) * baselineDrift;
+            }
+        }
+
+        if (dropped || recentNanos > baselineNanos * latencyTolerance) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= currentLimit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+
+        currentLimit = (int) limit;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package org.ascent.bulkheads;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Bulkhead {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final List<String> paths;
+
+    private final AdaptiveLimit adaptiveLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter rejections;
+
+    public Bulkhead(String name, List<String> paths, AdaptiveLimit adaptiveLimit, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.paths = List.copyOf(paths);
+        this.adaptiveLimit = adaptiveLimit;
+
+        Gauge.builder("ascent.bulkhead.limit", adaptiveLimit, AdaptiveLimit::getLimit)
+                .description("Concurrency limit of the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("ascent.bulkhead.in.flight", inFlight, AtomicInteger::get)
+                .description("Requests currently admitted by the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("ascent.bulkhead.rejections")
+                .description("Requests rejected by the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    public int getLimit() {
+        return adaptiveLimit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+
+            if (current >= adaptiveLimit.getLimit()) {
+                rejections.increment();
+                return false;
+            }
+
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        adaptiveLimit.onSample(latencyNanos, current, dropped);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package org.ascent.bulkheads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.ascent.properties.BulkheadProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BulkheadRegistry {
+
+    @Getter
+    private final List<Bulkhead> bulkheads = new ArrayList<>();
+
+    public BulkheadRegistry(BulkheadProperties bulkheadProperties, MeterRegistry meterRegistry) {
+        if (!bulkheadProperties.isEnabled()) {
+            return;
+        }
+
+        bulkheadProperties.getRoutes().forEach((name, route) -> bulkheads.add(new Bulkhead(name, route.getPaths(),
+                new AdaptiveLimit(route.getInitialLimit(), route.getMinLimit(), route.getMaxLimit(),
+                        bulkheadProperties.getBackoffRatio(), bulkheadProperties.getLatencyTolerance()),
+                meterRegistry)));
+    }
+
+    public Bulkhead get(String name) {
+        return bulkheads.stream()
+                .filter(bulkhead -> bulkhead.getName().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package org.ascent.caches;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.ascent.datasources.DataSourceRouting;
+import org.ascent.datasources.ReadYourWritesRegistry;
+import org.ascent.entities.User;
+import org.ascent.properties.CredentialCacheProperties;
+import org.ascent.repositories.UserRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CredentialCache {
+
+    private final CredentialCacheProperties credentialCacheProperties;
+
+    private final UserRepository userRepository;
+
+    private final ReadYourWritesRegistry readYourWritesRegistry;
+
+    private final RedisCredentialTier redisCredentialTier;
+
+    private final LoadingCache<String, UserCredentials> cache;
+
+    public CredentialCache(CredentialCacheProperties credentialCacheProperties, UserRepository userRepository,
+                           ReadYourWritesRegistry readYourWritesRegistry,
+                           ObjectProvider<RedisCredentialTier> redisCredentialTierProvider,
+                           MeterRegistry meterRegistry) {
+        this.credentialCacheProperties = credentialCacheProperties;
+        this.userRepository = userRepository;
+        this.readYourWritesRegistry = readYourWritesRegistry;
+        this.redisCredentialTier = redisCredentialTierProvider.getIfAvailable();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(credentialCacheProperties.getMaximumSize())
+                .expireAfterWrite(credentialCacheProperties.getExpireAfterWrite())
+                .refreshAfterWrite(credentialCacheProperties.getRefreshAfterWrite())
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public UserCredentials load(String emailCanonical) {
+                        return loadShared(emailCanonical);
+                    }
+
+                    @Override
+                    public UserCredentials reload(String emailCanonical, UserCredentials oldValue) {
+                        return loadDatabase(emailCanonical);
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "credentials");
+    }
+
+    public UserCredentials get(String emailCanonical) {
+        if (emailCanonical == null) {
+            return null;
+        }
+
+        if (!credentialCacheProperties.isEnabled()) {
+            return UserCredentials.ofNullable(userRepository.findByEmailCanonical(emailCanonical));
+        }
+
+        if (readYourWritesRegistry.isRecent(emailCanonical)) {
+            UserCredentials userCredentials = UserCredentials.ofNullable(DataSourceRouting.onPrimary(
+                    () -> userRepository.findByEmailCanonical(emailCanonical)));
+
+            if (userCredentials == null) {
+                cache.invalidate(emailCanonical);
+            } else {
+                cache.put(emailCanonical, userCredentials);
+            }
+
+            if (redisCredentialTier != null) {
+                if (userCredentials == null) {
+                    redisCredentialTier.invalidate(emailCanonical);
+                } else {
+                    redisCredentialTier.put(emailCanonical, userCredentials);
+                }
+            }
+
+            return userCredentials;
+        }
+
+        return cache.get(emailCanonical);
+    }
+
+    public void invalidate(String emailCanonical) {
+        if (emailCanonical == null) {
+            return;
+        }
+
+        readYourWritesRegistry.recordWrite(emailCanonical);
+        cache.invalidate(emailCanonical);
+
+        if (redisCredentialTier != null) {
+            redisCredentialTier.invalidate(emailCanonical);
+        }
+    }
+
+    public void invalidateLocal(String emailCanonical) {
+        if (emailCanonical == null) {
+            return;
+        }
+
+        readYourWritesRegistry.recordWrite(emailCanonical);
+        cache.invalidate(emailCanonical);
+    }
+
+    private UserCredentials loadShared(String emailCanonical) {
+        if (redisCredentialTier != null) {
+            UserCredentials userCredentials = redisCredentialTier.get(emailCanonical);
+
+            if (userCredentials != null) {
+                return userCredentials;
+            }
+        }
+
+        return loadDatabase(emailCanonical);
+    }
+
+    private UserCredentials loadDatabase(String emailCanonical) {
+        UserCredentials userCredentials = UserCredentials.ofNullable(userRepository.findByEmailCanonical(emailCanonical));
+
+        if (userCredentials != null && redisCredentialTier != null) {
+            redisCredentialTier.put(emailCanonical, userCredentials);
+        }
+
+        return userCredentials;
+    }
+}
\ No newline at end of file
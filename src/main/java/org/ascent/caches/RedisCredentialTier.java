@@ -0,0 +1,87 @@
+package org.ascent.caches;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ascent.properties.CredentialCacheProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+public class RedisCredentialTier {
+
+    private final static Logger logger = Logger.getLogger(RedisCredentialTier.class.getName());
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final CredentialCacheProperties.Redis redis;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter errors;
+
+    public RedisCredentialTier(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                               CredentialCacheProperties.Redis redis, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.redis = redis;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.errors = counter(meterRegistry, "error");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ascent.credential.cache.redis")
+                .description("Shared credential cache lookups, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public UserCredentials get(String emailCanonical) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(redis.getKeyPrefix() + emailCanonical);
+
+            if (value == null) {
+                misses.increment();
+                return null;
+            }
+
+            hits.increment();
+            return objectMapper.readValue(value, UserCredentials.class);
+        } catch (RuntimeException | JsonProcessingException exception) {
+            errors.increment();
+            logger.warning("Shared credential cache read failed: " + exception.getMessage());
+            return null;
+        }
+    }
+
+    public void put(String emailCanonical, UserCredentials userCredentials) {
+        long ttl = redis.getTtl().toMillis();
+        Duration jittered = Duration.ofMillis(ttl + ThreadLocalRandom.current().nextLong(ttl / 10 + 1));
+
+        try {
+            stringRedisTemplate.opsForValue().set(redis.getKeyPrefix() + emailCanonical,
+                    objectMapper.writeValueAsString(userCredentials), jittered);
+        } catch (RuntimeException | JsonProcessingException exception) {
+            errors.increment();
+            logger.warning("Shared credential cache write failed: " + exception.getMessage());
+        }
+    }
+
+    public void invalidate(String emailCanonical) {
+        try {
+            stringRedisTemplate.delete(redis.getKeyPrefix() + emailCanonical);
+            stringRedisTemplate.convertAndSend(redis.getChannel(), emailCanonical);
+        } catch (RuntimeException exception) {
+            errors.increment();
+            logger.warning("Shared credential cache invalidation failed: " + exception.getMessage());
+        }
+    }
+}
\ No newline at end of file
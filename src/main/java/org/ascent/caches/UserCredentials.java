@@ -0,0 +1,32 @@
+package org.ascent.caches;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.ascent.entities.User;
+import org.ascent.enums.Role;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCredentials {
+
+    private Long id;
+
+    private String username;
+
+    private String emailCanonical;
+
+    private String password;
+
+    private boolean disabled;
+
+    private Role role;
+
+    public static UserCredentials ofNullable(User user) {
+        return user == null ? null : new UserCredentials(user.getId(), user.getUsername(), user.getEmailCanonical(), user.getPassword(),
+                user.isDisabled(), user.getRole());
+    }
+}
\ No newline at end of file
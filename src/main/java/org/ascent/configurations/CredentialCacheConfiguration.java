@@ -0,0 +1,42 @@
+package org.ascent.configurations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ascent.caches.CredentialCache;
+import org.ascent.caches.RedisCredentialTier;
+import org.ascent.properties.CredentialCacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+@Configuration
+@ConditionalOnProperty(prefix = "ascent.credential-cache.redis", name = "enabled", havingValue = "true")
+public class CredentialCacheConfiguration {
+
+    @Bean
+    public RedisCredentialTier redisCredentialTier(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                                   CredentialCacheProperties credentialCacheProperties,
+                                                   MeterRegistry meterRegistry) {
+        return new RedisCredentialTier(stringRedisTemplate, objectMapper, credentialCacheProperties.getRedis(),
+                meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer credentialInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, CredentialCacheProperties credentialCacheProperties,
+            CredentialCache credentialCache) {
+        RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer();
+        redisMessageListenerContainer.setConnectionFactory(redisConnectionFactory);
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> credentialCache.invalidateLocal(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(credentialCacheProperties.getRedis().getChannel()));
+        return redisMessageListenerContainer;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package org.ascent.configurations;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.ascent.datasources.ReplicaLagMonitor;
+import org.ascent.datasources.RoutingDataSource;
+import org.ascent.properties.DataSourceRoutingProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import javax.sql.DataSource;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ascent.datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceConfiguration implements SchedulingConfigurer {
+
+    private final DataSourceRoutingProperties dataSourceRoutingProperties;
+
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitorProvider;
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource hikariDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        hikariDataSource.setPoolName("primary");
+        return hikariDataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource hikariDataSource = new HikariDataSource();
+        hikariDataSource.setPoolName("replica");
+        hikariDataSource.setJdbcUrl(dataSourceRoutingProperties.getUrl());
+        hikariDataSource.setUsername(dataSourceRoutingProperties.getUsername());
+        hikariDataSource.setPassword(dataSourceRoutingProperties.getPassword());
+        hikariDataSource.setMaximumPoolSize(dataSourceRoutingProperties.getMaximumPoolSize());
+        hikariDataSource.setReadOnly(true);
+        return hikariDataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               MeterRegistry meterRegistry) {
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, dataSourceRoutingProperties,
+                meterRegistry);
+        replicaLagMonitor.check();
+        return replicaLagMonitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new RoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        scheduledTaskRegistrar.addFixedDelayTask(() -> replicaLagMonitorProvider.getObject().check(),
+                dataSourceRoutingProperties.getLagCheckInterval());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package org.ascent.configurations;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.ascent.datasources.InstrumentedDataSource;
+import org.ascent.datasources.PoolSizeController;
+import org.ascent.properties.DataSourcePoolProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+public class DataSourcePoolConfiguration {
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(
+            ObjectProvider<DataSourcePoolProperties> dataSourcePoolPropertiesProvider,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {
+                    return bean;
+                }
+
+                DataSourcePoolProperties dataSourcePoolProperties = dataSourcePoolPropertiesProvider.getObject();
+                hikariDataSource.setLeakDetectionThreshold(dataSourcePoolProperties.getLeakDetectionThreshold()
+                        .toMillis());
+
+                String pool = hikariDataSource.getPoolName() != null ? hikariDataSource.getPoolName() : beanName;
+                return new InstrumentedDataSource(hikariDataSource, pool, meterRegistryProvider.getObject(),
+                        dataSourcePoolProperties.getLongHoldThreshold(),
+                        dataSourcePoolProperties.getCallerSampleRate());
+            }
+        };
+    }
+
+    @Configuration
+    @RequiredArgsConstructor
+    @ConditionalOnProperty(prefix = "ascent.datasource-pool.adaptive", name = "enabled", havingValue = "true")
+    public static class AdaptivePoolSizeConfiguration implements SchedulingConfigurer {
+
+        private final DataSourcePoolProperties dataSourcePoolProperties;
+
+        private final ObjectProvider<PoolSizeController> poolSizeControllerProvider;
+
+        @Bean
+        public PoolSizeController poolSizeController(List<DataSource> dataSources, MeterRegistry meterRegistry) {
+            List<InstrumentedDataSource> instrumentedDataSources = dataSources.stream()
+                    .filter(InstrumentedDataSource.class::isInstance)
+                    .map(InstrumentedDataSource.class::cast)
+                    .toList();
+
+            return new PoolSizeController(instrumentedDataSources, dataSourcePoolProperties.getAdaptive(),
+                    meterRegistry);
+        }
+
+        @Override
+        public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+            scheduledTaskRegistrar.addFixedDelayTask(() -> poolSizeControllerProvider.getObject().adjust(),
+                    dataSourcePoolProperties.getAdaptive().getInterval());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package org.ascent.configurations;
+
+import org.ascent.generators.SnowflakeIdGenerator;
+import org.ascent.properties.IdProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class IdConfiguration {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(IdProperties idProperties) {
+        if (idProperties.getNodeId() == null) {
+            throw new IllegalStateException("ascent.ids.node-id must be set to a value between 0 and "
+                    + SnowflakeIdGenerator.maxNodeId + " that is unique among running nodes");
+        }
+
+        SnowflakeIdGenerator snowflakeIdGenerator = new SnowflakeIdGenerator(idProperties.getNodeId(),
+                idProperties.getEpoch(), Clock.systemUTC());
+        SnowflakeIdGenerator.share(snowflakeIdGenerator);
+        return snowflakeIdGenerator;
+    }
+}
\ No newline at end of file
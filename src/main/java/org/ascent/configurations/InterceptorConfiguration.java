@@ -0,0 +1,49 @@
+package org.ascent.configurations;
+
+import lombok.RequiredArgsConstructor;
+import org.ascent.audits.AuditLog;
+import org.ascent.bulkheads.BulkheadRegistry;
+import org.ascent.interceptors.AdminInterceptor;
+import org.ascent.interceptors.BulkheadInterceptor;
+import org.ascent.interceptors.EarlyHintsInterceptor;
+import org.ascent.properties.BulkheadProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class InterceptorConfiguration implements WebMvcConfigurer {
+
+    private final EarlyHintsInterceptor earlyHintsInterceptor;
+
+    private final AdminInterceptor adminInterceptor;
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    private final BulkheadProperties bulkheadProperties;
+
+    private final AuditLog auditLog;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptorRegistry) {
+        bulkheadRegistry.getBulkheads().forEach(bulkhead -> interceptorRegistry
+                .addInterceptor(new BulkheadInterceptor(bulkhead, auditLog, bulkheadProperties.getRetryAfter()))
+                .addPathPatterns(bulkhead.getPaths()));
+
+        interceptorRegistry.addInterceptor(earlyHintsInterceptor).addPathPatterns("/");
+        interceptorRegistry.addInterceptor(adminInterceptor).addPathPatterns("/admin/**");
+
+        WebContentInterceptor webContentInterceptor = new WebContentInterceptor();
+        webContentInterceptor.addCacheMapping(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate(),
+                "/navbar/login", "/navbar/register", "/navbar/logout");
+
+        interceptorRegistry.addInterceptor(webContentInterceptor);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package org.ascent.configurations;
+
+import org.ascent.executors.TimestampingExecutorCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "ascent.load-shedding", name = "executor-timestamps", havingValue = "true", matchIfMissing = true)
+public class LoadSheddingConfiguration {
+
+    @Bean
+    public TimestampingExecutorCustomizer timestampingExecutorCustomizer(ServerProperties serverProperties) {
+        return new TimestampingExecutorCustomizer(serverProperties);
+    }
+}
\ No newline at end of file
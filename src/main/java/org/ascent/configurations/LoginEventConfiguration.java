@@ -0,0 +1,36 @@
+package org.ascent.configurations;
+
+import lombok.RequiredArgsConstructor;
+import org.ascent.events.LoginEventPartitionManager;
+import org.ascent.properties.LoginEventProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Clock;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ascent.login-events.partitions", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class LoginEventConfiguration implements SchedulingConfigurer {
+
+    private final LoginEventProperties loginEventProperties;
+
+    private final ObjectProvider<LoginEventPartitionManager> loginEventPartitionManagerProvider;
+
+    @Bean
+    public LoginEventPartitionManager loginEventPartitionManager(JdbcTemplate jdbcTemplate) {
+        return new LoginEventPartitionManager(jdbcTemplate, loginEventProperties.getPartitions(), Clock.systemUTC());
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        scheduledTaskRegistrar.addFixedDelayTask(() -> loginEventPartitionManagerProvider.getObject().maintain(),
+                loginEventProperties.getPartitions().getMaintenanceInterval());
+    }
+}
\ No newline at end of file
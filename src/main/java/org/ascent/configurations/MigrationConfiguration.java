@@ -0,0 +1,47 @@
+package org.ascent.configurations;
+
+import lombok.RequiredArgsConstructor;
+import org.ascent.migrations.UserEmailCanonicalBackfill;
+import org.ascent.properties.MigrationProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@RequiredArgsConstructor
+public class MigrationConfiguration implements SchedulingConfigurer {
+
+    private final MigrationProperties migrationProperties;
+
+    private final ObjectProvider<UserEmailCanonicalBackfill> userEmailCanonicalBackfillProvider;
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+            switch (migrationProperties.getMode()) {
+                case MIGRATE -> flyway.migrate();
+                case VALIDATE -> flyway.validate();
+                case NONE -> { }
+            }
+        };
+    }
+
+    @Bean
+    public UserEmailCanonicalBackfill userEmailCanonicalBackfill(JdbcTemplate jdbcTemplate) {
+        return new UserEmailCanonicalBackfill(jdbcTemplate);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar) {
+        if (migrationProperties.getBackfillInterval().isZero()) {
+            return;
+        }
+
+        scheduledTaskRegistrar.addFixedDelayTask(() -> userEmailCanonicalBackfillProvider.getObject().maintain(),
+                migrationProperties.getBackfillInterval());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package org.ascent.configurations;
+
+import org.ascent.handlers.LoginHandler;
+import org.ascent.handlers.LogoutHandler;
+import org.ascent.handlers.RegisterHandler;
+import org.ascent.handlers.ViewHandler;
+import org.ascent.properties.ReactiveProperties;
+import org.ascent.resolvers.ReactiveWebJarManifestResourceResolver;
+import org.ascent.tools.WebJarManifestGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.config.ResourceChainRegistration;
+import org.springframework.web.reactive.config.ResourceHandlerRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.resource.EncodedResourceResolver;
+import org.springframework.web.reactive.resource.VersionResourceResolver;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+import static org.springframework.web.reactive.function.server.RequestPredicates.headers;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfiguration implements WebFluxConfigurer {
+
+    private final static CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+
+    private final static RequestPredicate htmx = headers(headers -> !headers.header("HX-Request").isEmpty());
+
+    private final static RequestPredicate minimal = headers(headers ->
+            headers.header("Prefer").contains("return=minimal"));
+
+    private final static RequestPredicate body = contentType(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_FORM_URLENCODED);
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler hashingScheduler(ReactiveProperties reactiveProperties) {
+        return Schedulers.newBoundedElastic(reactiveProperties.getHashingThreads(),
+                reactiveProperties.getHashingQueueCapacity(), "hashing");
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> routes(ViewHandler viewHandler, LoginHandler loginHandler,
+                                                 RegisterHandler registerHandler, LogoutHandler logoutHandler) {
+        return route()
+                .GET("/", viewHandler::index)
+                .GET("/navbar", viewHandler::navbar)
+                .GET("/navbar/login", htmx, viewHandler::login)
+                .GET("/navbar/register", htmx, viewHandler::register)
+                .GET("/navbar/logout", htmx, viewHandler::logout)
+                .POST("/login", htmx.and(minimal).and(body), loginHandler::loginMinimal)
+                .POST("/login", htmx.and(body), loginHandler::login)
+                .POST("/register", htmx.and(minimal).and(body), registerHandler::registerMinimal)
+                .POST("/register", htmx.and(body), registerHandler::register)
+                .GET("/logout", htmx.and(minimal), logoutHandler::logoutMinimal)
+                .GET("/logout", htmx, logoutHandler::logout)
+                .build();
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry resourceHandlerRegistry) {
+        addFingerprintedResourceHandler(resourceHandlerRegistry, "/css/**", "classpath:/static/css/");
+        addFingerprintedResourceHandler(resourceHandlerRegistry, "/js/**", "classpath:/static/js/");
+        addFingerprintedResourceHandler(resourceHandlerRegistry, "/webjars/**", "classpath:/META-INF/resources/webjars/")
+                .addResolver(new ReactiveWebJarManifestResourceResolver(WebJarManifestGenerator.manifestLocation));
+    }
+
+    private ResourceChainRegistration addFingerprintedResourceHandler(ResourceHandlerRegistry resourceHandlerRegistry, String pathPattern, String location) {
+        return resourceHandlerRegistry.addResourceHandler(pathPattern)
+                .addResourceLocations(location)
+                .setCacheControl(cacheControl)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package org.ascent.configurations;
+
+import org.ascent.resolvers.WebJarManifestResourceResolver;
+import org.ascent.tools.WebJarManifestGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceChainRegistration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ResourceConfiguration implements WebMvcConfigurer {
+
+    private final static CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry resourceHandlerRegistry) {
+        addFingerprintedResourceHandler(resourceHandlerRegistry, "/css/**", "classpath:/static/css/");
+        addFingerprintedResourceHandler(resourceHandlerRegistry, "/js/**", "classpath:/static/js/");
+        addFingerprintedResourceHandler(resourceHandlerRegistry, "/webjars/**", "classpath:/META-INF/resources/webjars/")
+                .addResolver(new WebJarManifestResourceResolver(WebJarManifestGenerator.manifestLocation));
+    }
+
+    private ResourceChainRegistration addFingerprintedResourceHandler(ResourceHandlerRegistry resourceHandlerRegistry, String pathPattern, String location) {
+        return resourceHandlerRegistry.addResourceHandler(pathPattern)
+                .addResourceLocations(location)
+                .setCacheControl(cacheControl)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package org.ascent.controllers;
+
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.ascent.directories.DirectoryPage;
+import org.ascent.exceptions.AdminRequiredException;
+import org.ascent.managers.DirectoryManager;
+import org.ascent.managers.ViewManager;
+import org.ascent.requests.DirectoryRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class DirectoryController {
+
+    private final static Logger logger = Logger.getLogger(DirectoryController.class.getName());
+
+    private final DirectoryManager directoryManager;
+
+    private final ViewManager viewManager;
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/admin/users")
+    public ModelAndView directory(@ModelAttribute DirectoryRequest directoryRequest, HttpSession httpSession) {
+        ModelAndView modelAndView = new ModelAndView("directory");
+        viewManager.navbar(httpSession, modelAndView);
+        addPage(directoryManager.page(directoryRequest), modelAndView);
+        return modelAndView;
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/admin/users/rows", headers = "HX-Request")
+    public ModelAndView rows(@ModelAttribute DirectoryRequest directoryRequest) {
+        ModelAndView modelAndView = new ModelAndView("fragments/directory :: rows");
+        addPage(directoryManager.page(directoryRequest), modelAndView);
+        return modelAndView;
+    }
+
+    private static void addPage(DirectoryPage directoryPage, ModelAndView modelAndView) {
+        modelAndView.addObject("rows", directoryPage.getRows());
+
+        DirectoryRequest next = directoryPage.getNext();
+        if (next != null) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("search", next.getSearch());
+            variables.put("afterKey", next.getAfterKey());
+
+            modelAndView.addObject("next", UriComponentsBuilder.fromPath("/admin/users/rows")
+                    .queryParamIfPresent("search", Optional.ofNullable(next.getSearch()).map(search -> "{search}"))
+                    .queryParam("field", next.getField())
+                    .queryParamIfPresent("afterCreatedOn", Optional.ofNullable(next.getAfterCreatedOn()))
+                    .queryParamIfPresent("afterId", Optional.ofNullable(next.getAfterId()))
+                    .queryParamIfPresent("afterKey", Optional.ofNullable(next.getAfterKey()).map(afterKey -> "{afterKey}"))
+                    .encode()
+                    .buildAndExpand(variables)
+                    .toUriString());
+        }
+    }
+
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    @ExceptionHandler(AdminRequiredException.class)
+    private String handleAdminRequired() {
+        return "responses/directory_response :: admin_required";
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(BindException.class)
+    private String handleBind() {
+        return "responses/directory_response :: invalid_search";
+    }
+
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    @ExceptionHandler(Exception.class)
+    private String handleException(Exception e) {
+        logger.severe(e.getMessage());
+        return "responses/directory_response :: error";
+    }
+}
\ No newline at end of file
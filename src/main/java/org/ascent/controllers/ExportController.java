@@ -0,0 +1,90 @@
+package org.ascent.controllers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.ascent.exceptions.AdminRequiredException;
+import org.ascent.managers.ExportManager;
+import org.ascent.requests.ExportRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final static Logger logger = Logger.getLogger(ExportController.class.getName());
+
+    private final ExportManager exportManager;
+
+    @GetMapping(value = "/admin/users/export", produces = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<StreamingResponseBody> exportUsers(@ModelAttribute ExportRequest exportRequest,
+                                                             HttpServletRequest httpServletRequest) {
+        MediaType mediaType = negotiate(httpServletRequest.getHeader(HttpHeaders.ACCEPT));
+
+        StreamingResponseBody streamingResponseBody = outputStream ->
+                exportManager.exportUsers(exportRequest, mediaType, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(mediaType, StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + (mediaType.equals(ExportManager.ndjson) ? "ndjson" : "csv"))
+                        .build()
+                        .toString())
+                .body(streamingResponseBody);
+    }
+
+    private static MediaType negotiate(String accept) {
+        List<MediaType> mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        mediaTypes.removeIf(mediaType -> mediaType.getQualityValue() == 0);
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.isCompatibleWith(ExportManager.csv)) {
+                return ExportManager.csv;
+            }
+
+            if (mediaType.isCompatibleWith(ExportManager.ndjson)) {
+                return ExportManager.ndjson;
+            }
+        }
+
+        return ExportManager.csv;
+    }
+
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    @ExceptionHandler(AdminRequiredException.class)
+    private String handleAdminRequired() {
+        return "responses/export_response :: admin_required";
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(BindException.class)
+    private String handleBind() {
+        return "responses/export_response :: invalid_filter";
+    }
+
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    @ExceptionHandler(Exception.class)
+    private String handleException(Exception e) {
+        logger.severe(e.getMessage());
+        return "responses/export_response :: error";
+    }
+}
\ No newline at end of file
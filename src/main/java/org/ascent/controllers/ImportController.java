@@ -0,0 +1,64 @@
+package org.ascent.controllers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.ascent.exceptions.AdminRequiredException;
+import org.ascent.exceptions.ImportInProgressException;
+import org.ascent.imports.ImportReport;
+import org.ascent.managers.ImportManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.logging.Logger;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final static Logger logger = Logger.getLogger(ImportController.class.getName());
+
+    private final ImportManager importManager;
+
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping(value = "/admin/users/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ModelAndView importUsers(HttpServletRequest httpServletRequest) throws Exception {
+        ImportReport importReport = importManager.importUsers(
+                MediaType.parseMediaType(httpServletRequest.getContentType()), httpServletRequest.getInputStream());
+
+        ModelAndView modelAndView = new ModelAndView("responses/import_response :: report");
+        modelAndView.addObject("report", importReport);
+        return modelAndView;
+    }
+
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    @ExceptionHandler(AdminRequiredException.class)
+    private String handleAdminRequired() {
+        return "responses/import_response :: admin_required";
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(ImportInProgressException.class)
+    private String handleImportInProgress() {
+        return "responses/import_response :: in_progress";
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(IllegalArgumentException.class)
+    private String handleIllegalArgument() {
+        return "responses/import_response :: invalid_header";
+    }
+
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    @ExceptionHandler(Exception.class)
+    private String handleException(Exception e) {
+        logger.severe(e.getMessage());
+        return "responses/import_response :: error";
+    }
+}
\ No newline at end of file
@@ -1,11 +1,19 @@
 package org.ascent.controllers;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.ascent.audits.AuditLog;
+import org.ascent.entities.User;
+import org.ascent.enums.AuditType;
+import org.ascent.enums.Trigger;
+import org.ascent.exceptions.ThrottledException;
 import org.ascent.exceptions.InvalidCredentialsException;
 import org.ascent.exceptions.UserDisabledException;
 import org.ascent.managers.LoginManager;
 import org.ascent.requests.LoginRequest;
+import org.ascent.validators.CredentialValidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,35 +24,63 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import java.util.logging.Logger;
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class LoginController {
 
     private final static Logger logger = Logger.getLogger(LoginController.class.getName());
 
+    private final CredentialValidator credentialValidator;
+
     private final LoginManager loginManager;
 
+    private final AuditLog auditLog;
+
     @ResponseStatus(HttpStatus.OK)
-    @PostMapping(value = "/login", headers = "HX-Request", consumes = "application/json")
+    @PostMapping(value = "/login", headers = "HX-Request", consumes = {"application/json", "application/x-www-form-urlencoded"})
     public String login(HttpServletRequest httpServletRequest, @RequestBody LoginRequest loginRequest) {
+        AuditLog.subject(httpServletRequest, User.canonicalEmail(loginRequest.getEmail()));
+        credentialValidator.validate(loginRequest);
         loginManager.login(httpServletRequest, loginRequest);
+        auditLog.record(httpServletRequest, AuditType.LOGIN_SUCCESS);
         return "responses/login_response :: success";
     }
 
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PostMapping(value = "/login", headers = {"HX-Request", "Prefer=return=minimal"}, consumes = {"application/json", "application/x-www-form-urlencoded"})
+    public void login(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, @RequestBody LoginRequest loginRequest) {
+        AuditLog.subject(httpServletRequest, User.canonicalEmail(loginRequest.getEmail()));
+        credentialValidator.validate(loginRequest);
+        loginManager.login(httpServletRequest, loginRequest);
+        auditLog.record(httpServletRequest, AuditType.LOGIN_SUCCESS);
+        httpServletResponse.setHeader("HX-Trigger", Trigger.AUTH_CHANGED.getEvent());
+        httpServletResponse.setHeader("Preference-Applied", "return=minimal");
+    }
+
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ExceptionHandler(InvalidCredentialsException.class)
-    private String handleInvalidCredentialsException() {
+    private String handleInvalidCredentialsException(HttpServletRequest httpServletRequest) {
+        auditLog.record(httpServletRequest, AuditType.LOGIN_INVALID_CREDENTIALS);
         return "responses/login_response :: invalid_credentials";
     }
 
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ExceptionHandler(UserDisabledException.class)
-    private String handleUserDisabledException() {
+    private String handleUserDisabledException(HttpServletRequest httpServletRequest) {
+        auditLog.record(httpServletRequest, AuditType.LOGIN_USER_DISABLED);
         return "responses/login_response :: user_disabled";
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ThrottledException.class)
+    private String handleThrottledException() {
+        return "responses/login_response :: throttled";
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
-    private String handleException(Exception e) {
+    private String handleException(HttpServletRequest httpServletRequest, Exception e) {
+        auditLog.record(httpServletRequest, AuditType.LOGIN_ERROR);
         logger.severe(e.getMessage());
         return "responses/login_response :: error";
     }
@@ -1,8 +1,14 @@
 package org.ascent.controllers;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.ascent.audits.AuditLog;
+import org.ascent.enums.AuditType;
+import org.ascent.enums.Trigger;
 import org.ascent.managers.LogoutManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,6 +18,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import java.util.logging.Logger;
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class LogoutController {
 
@@ -19,16 +26,39 @@ public class LogoutController {
 
     private final LogoutManager logoutManager;
 
+    private final AuditLog auditLog;
+
     @ResponseStatus(HttpStatus.OK)
     @GetMapping(value = "/logout", headers = "HX-Request")
     public String logout(HttpServletRequest httpServletRequest) {
+        subject(httpServletRequest);
         logoutManager.logout(httpServletRequest);
+        auditLog.record(httpServletRequest, AuditType.LOGOUT);
         return "responses/logout_response :: success";
     }
 
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @GetMapping(value = "/logout", headers = {"HX-Request", "Prefer=return=minimal"})
+    public void logout(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
+        subject(httpServletRequest);
+        logoutManager.logout(httpServletRequest);
+        auditLog.record(httpServletRequest, AuditType.LOGOUT);
+        httpServletResponse.setHeader("HX-Trigger", Trigger.AUTH_CHANGED.getEvent());
+        httpServletResponse.setHeader("Preference-Applied", "return=minimal");
+    }
+
+    private static void subject(HttpServletRequest httpServletRequest) {
+        HttpSession httpSession = httpServletRequest.getSession(false);
+
+        if (httpSession != null) {
+            AuditLog.subject(httpServletRequest, (String) httpSession.getAttribute("username"));
+        }
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
-    private String handleException(Exception e) {
+    private String handleException(HttpServletRequest httpServletRequest, Exception e) {
+        auditLog.record(httpServletRequest, AuditType.LOGOUT_ERROR);
         logger.severe(e.getMessage());
         return "responses/logout_response :: error";
     }
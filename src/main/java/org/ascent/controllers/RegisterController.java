@@ -1,10 +1,21 @@
 package org.ascent.controllers;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.ascent.audits.AuditLog;
+import org.ascent.enums.AuditType;
+import org.ascent.enums.Trigger;
+import org.ascent.exceptions.ThrottledException;
 import org.ascent.exceptions.EmailAlreadyInUseException;
+import org.ascent.exceptions.InvalidEmailException;
+import org.ascent.exceptions.InvalidPasswordException;
+import org.ascent.exceptions.InvalidUsernameException;
 import org.ascent.exceptions.UsernameAlreadyInUseException;
 import org.ascent.managers.RegisterManager;
 import org.ascent.requests.RegisterRequest;
+import org.ascent.validators.CredentialValidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,35 +26,84 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import java.util.logging.Logger;
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class RegisterController {
 
     private final static Logger logger = Logger.getLogger(RegisterController.class.getName());
 
+    private final CredentialValidator credentialValidator;
+
     private final RegisterManager registerManager;
 
+    private final AuditLog auditLog;
+
     @ResponseStatus(HttpStatus.CREATED)
-    @PostMapping(value = "/register", headers = "HX-Request", consumes = "application/json")
-    public String register(@RequestBody RegisterRequest registerRequest) {
+    @PostMapping(value = "/register", headers = "HX-Request", consumes = {"application/json", "application/x-www-form-urlencoded"})
+    public String register(HttpServletRequest httpServletRequest, @RequestBody RegisterRequest registerRequest) {
+        AuditLog.subject(httpServletRequest, registerRequest.getUsername());
+        credentialValidator.validate(registerRequest);
         registerManager.register(registerRequest);
+        auditLog.record(httpServletRequest, AuditType.REGISTER_SUCCESS);
         return "responses/register_response :: success";
     }
 
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PostMapping(value = "/register", headers = {"HX-Request", "Prefer=return=minimal"}, consumes = {"application/json", "application/x-www-form-urlencoded"})
+    public void register(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, @RequestBody RegisterRequest registerRequest) {
+        AuditLog.subject(httpServletRequest, registerRequest.getUsername());
+        credentialValidator.validate(registerRequest);
+        registerManager.register(registerRequest);
+        auditLog.record(httpServletRequest, AuditType.REGISTER_SUCCESS);
+        httpServletResponse.setHeader("HX-Trigger", Trigger.USER_REGISTERED.getEvent());
+        httpServletResponse.setHeader("Preference-Applied", "return=minimal");
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidUsernameException.class)
+    private String handleInvalidUsername(HttpServletRequest httpServletRequest) {
+        auditLog.record(httpServletRequest, AuditType.REGISTER_REJECTED);
+        return "responses/register_response :: invalid_username";
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidEmailException.class)
+    private String handleInvalidEmail(HttpServletRequest httpServletRequest) {
+        auditLog.record(httpServletRequest, AuditType.REGISTER_REJECTED);
+        return "responses/register_response :: invalid_email";
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidPasswordException.class)
+    private String handleInvalidPassword(HttpServletRequest httpServletRequest) {
+        auditLog.record(httpServletRequest, AuditType.REGISTER_REJECTED);
+        return "responses/register_response :: invalid_password";
+    }
+
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler(UsernameAlreadyInUseException.class)
-    private String handleUsernameAlreadyInUse() {
+    private String handleUsernameAlreadyInUse(HttpServletRequest httpServletRequest) {
+        auditLog.record(httpServletRequest, AuditType.REGISTER_CONFLICT);
         return "responses/register_response :: username_already_in_use";
     }
 
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler(EmailAlreadyInUseException.class)
-    private String handleEmailAlreadyInUse() {
+    private String handleEmailAlreadyInUse(HttpServletRequest httpServletRequest) {
+        auditLog.record(httpServletRequest, AuditType.REGISTER_CONFLICT);
         return "responses/register_response :: email_already_in_use";
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ThrottledException.class)
+    private String handleThrottledException() {
+        return "responses/register_response :: throttled";
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
-    private String handleException(Exception e) {
+    private String handleException(HttpServletRequest httpServletRequest, Exception e) {
+        auditLog.record(httpServletRequest, AuditType.REGISTER_ERROR);
         logger.severe(e.getMessage());
         return "responses/register_response :: error";
     }
@@ -2,14 +2,18 @@ package org.ascent.controllers;
 
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.ascent.exceptions.ThrottledException;
 import org.ascent.managers.ViewManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.servlet.ModelAndView;
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class ViewController {
 
@@ -30,4 +34,28 @@ public class ViewController {
         viewManager.navbar(httpSession, modelAndView);
         return modelAndView;
     }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/navbar/login", headers = "HX-Request")
+    public String login() {
+        return "fragments/navbar/login :: login";
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/navbar/register", headers = "HX-Request")
+    public String register() {
+        return "fragments/navbar/register :: register";
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/navbar/logout", headers = "HX-Request")
+    public String logout() {
+        return "fragments/navbar/logout :: logout";
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ThrottledException.class)
+    private String handleThrottledException() {
+        return "responses/view_response :: throttled";
+    }
 }
\ No newline at end of file
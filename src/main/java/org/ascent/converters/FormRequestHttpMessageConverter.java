@@ -0,0 +1,134 @@
+package org.ascent.converters;
+
+import org.ascent.requests.LoginRequest;
+import org.ascent.requests.RegisterRequest;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+public class FormRequestHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public FormRequestHttpMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_FORM_URLENCODED);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == LoginRequest.class || clazz == RegisterRequest.class;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        if (inputMessage instanceof ServletServerHttpRequest servletServerHttpRequest
+                && servletServerHttpRequest.getServletRequest().getQueryString() == null) {
+            return bind(clazz, servletServerHttpRequest.getServletRequest()::getParameter);
+        }
+
+        try {
+            return bind(clazz, decode(inputMessage.getBody().readAllBytes())::get);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("Form requests can not be written");
+    }
+
+    public static Object bind(Class<?> clazz, Function<String, String> fields) {
+        if (clazz == LoginRequest.class) {
+            LoginRequest loginRequest = new LoginRequest();
+            loginRequest.setEmail(fields.apply("email"));
+            loginRequest.setPassword(fields.apply("password"));
+            return loginRequest;
+        }
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setUsername(fields.apply("username"));
+        registerRequest.setEmail(fields.apply("email"));
+        registerRequest.setPassword(fields.apply("password"));
+        return registerRequest;
+    }
+
+    public static Map<String, String> decode(byte[] body) {
+        Map<String, String> fields = new HashMap<>();
+        byte[] buffer = new byte[body.length];
+
+        int start = 0;
+        while (start < body.length) {
+            int end = start;
+            int separator = -1;
+
+            while (end < body.length && body[end] != '&') {
+                if (separator == -1 && body[end] == '=') {
+                    separator = end;
+                }
+                end++;
+            }
+
+            if (end > start) {
+                int nameEnd = separator == -1 ? end : separator;
+                String name = decode(body, start, nameEnd, buffer);
+                String value = separator == -1 ? "" : decode(body, separator + 1, end, buffer);
+                fields.putIfAbsent(name, value);
+            }
+
+            start = end + 1;
+        }
+
+        return fields;
+    }
+
+    private static String decode(byte[] body, int start, int end, byte[] buffer) {
+        int length = 0;
+
+        for (int i = start; i < end; i++) {
+            byte b = body[i];
+
+            if (b == '+') {
+                buffer[length++] = ' ';
+            } else if (b == '%') {
+                if (i + 2 >= end) {
+                    throw new IllegalArgumentException("Incomplete percent-encoding in form request");
+                }
+                buffer[length++] = (byte) (hex(body[i + 1]) << 4 | hex(body[i + 2]));
+                i += 2;
+            } else {
+                buffer[length++] = b;
+            }
+        }
+
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static int hex(byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        if (b >= 'A' && b <= 'F') {
+            return b - 'A' + 10;
+        }
+        if (b >= 'a' && b <= 'f') {
+            return b - 'a' + 10;
+        }
+        throw new IllegalArgumentException("Invalid percent-encoding in form request");
+    }
+}
\ No newline at end of file
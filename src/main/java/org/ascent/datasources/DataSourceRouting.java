@@ -0,0 +1,28 @@
+package org.ascent.datasources;
+
+import java.util.function.Supplier;
+
+public final class DataSourceRouting {
+
+    private final static ThreadLocal<Boolean> primaryForced = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRouting() {
+    }
+
+    public static boolean isPrimaryForced() {
+        return primaryForced.get();
+    }
+
+    public static <T> T onPrimary(Supplier<T> supplier) {
+        if (primaryForced.get()) {
+            return supplier.get();
+        }
+
+        primaryForced.set(true);
+        try {
+            return supplier.get();
+        } finally {
+            primaryForced.remove();
+        }
+    }
+}
\ No newline at end of file
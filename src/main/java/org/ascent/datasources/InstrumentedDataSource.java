@@ -0,0 +1,129 @@
+package org.ascent.datasources;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final static Logger logger = Logger.getLogger(InstrumentedDataSource.class.getName());
+
+    private final static StackWalker stackWalker = StackWalker.getInstance();
+
+    private final static String callerPackage = "org.ascent.managers.";
+
+    private final static String otherCaller = "other";
+
+    private final String pool;
+
+    private final MeterRegistry meterRegistry;
+
+    private final long longHoldThreshold;
+
+    private final double callerSampleRate;
+
+    private final LongAdder acquireTime = new LongAdder();
+
+    private final LongAdder acquireCount = new LongAdder();
+
+    public InstrumentedDataSource(DataSource dataSource, String pool, MeterRegistry meterRegistry,
+                                  Duration longHoldThreshold, double callerSampleRate) {
+        super(dataSource);
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+        this.longHoldThreshold = longHoldThreshold.toNanos();
+        this.callerSampleRate = callerSampleRate;
+    }
+
+    public String getPool() {
+        return pool;
+    }
+
+    public long drainAcquireCount() {
+        return acquireCount.sumThenReset();
+    }
+
+    public long drainAcquireTime() {
+        return acquireTime.sumThenReset();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        return instrument(super.getConnection(), start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        return instrument(super.getConnection(username, password), start);
+    }
+
+    private Connection instrument(Connection connection, long start) {
+        long acquired = System.nanoTime();
+        acquireTime.add(acquired - start);
+        acquireCount.increment();
+
+        return new InstrumentedConnection(connection, this, acquired);
+    }
+
+    void release(long held) {
+        boolean longHold = longHoldThreshold > 0 && held > longHoldThreshold;
+        boolean sampled = callerSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < callerSampleRate;
+
+        if (!longHold && !sampled) {
+            return;
+        }
+
+        String caller = caller();
+
+        if (sampled) {
+            Timer.builder("ascent.datasource.connection.usage")
+                    .description("Time a connection is held, by calling manager method (sampled)")
+                    .tag("pool", pool)
+                    .tag("caller", caller)
+                    .register(meterRegistry)
+                    .record(held, TimeUnit.NANOSECONDS);
+        }
+
+        if (longHold) {
+            Counter.builder("ascent.datasource.connection.long.holds")
+                    .description("Connections held longer than the long-hold threshold")
+                    .tag("pool", pool)
+                    .tag("caller", caller)
+                    .register(meterRegistry)
+                    .increment();
+
+            logger.log(Level.WARNING, "Connection from pool " + pool + " held for "
+                    + TimeUnit.NANOSECONDS.toMillis(held) + " ms by " + caller,
+                    new Throwable("Connection released by " + caller));
+        }
+    }
+
+    private static String caller() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(callerPackage))
+                .findFirst()
+                .map(frame -> name(frame.getClassName().substring(callerPackage.length()), "$$") + "."
+                        + (frame.getMethodName().startsWith("lambda$")
+                        ? name(frame.getMethodName().substring("lambda$".length()), "$")
+                        : frame.getMethodName()))
+                .orElse(otherCaller));
+    }
+
+    private static String name(String name, String separator) {
+        int index = name.indexOf(separator);
+        return index < 0 ? name : name.substring(0, index);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package org.ascent.datasources;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.ascent.properties.DataSourcePoolProperties;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.logging.Logger;
+
+@RequiredArgsConstructor
+public class PoolSizeController {
+
+    private final static Logger logger = Logger.getLogger(PoolSizeController.class.getName());
+
+    private final List<InstrumentedDataSource> dataSources;
+
+    private final DataSourcePoolProperties.Adaptive adaptive;
+
+    private final MeterRegistry meterRegistry;
+
+    private boolean primed = false;
+
+    public void adjust() {
+        if (!primed) {
+            dataSources.forEach(dataSource -> {
+                dataSource.drainAcquireCount();
+                dataSource.drainAcquireTime();
+            });
+            primed = true;
+            return;
+        }
+
+        for (InstrumentedDataSource dataSource : dataSources) {
+            try {
+                adjust(dataSource, dataSource.unwrap(HikariDataSource.class));
+            } catch (SQLException sqlException) {
+                logger.fine(sqlException.getMessage());
+            }
+        }
+    }
+
+    private void adjust(InstrumentedDataSource dataSource, HikariDataSource hikariDataSource) {
+        long count = dataSource.drainAcquireCount();
+        long time = dataSource.drainAcquireTime();
+
+        HikariPoolMXBean hikariPoolMXBean = hikariDataSource.getHikariPoolMXBean();
+        if (hikariPoolMXBean == null) {
+            return;
+        }
+
+        long averageAcquireTime = count == 0 ? 0 : time / count;
+        long targetAcquireTime = adaptive.getTargetAcquireTime().toNanos();
+        int size = hikariDataSource.getMaximumPoolSize();
+        int pending = hikariPoolMXBean.getThreadsAwaitingConnection();
+
+        if ((pending > 0 || averageAcquireTime > targetAcquireTime) && size < adaptive.getMaximumPoolSize()) {
+            resize(dataSource, hikariDataSource, size,
+                    Math.min(adaptive.getMaximumPoolSize(), size + adaptive.getStep()), "up");
+        } else if (pending == 0 && averageAcquireTime < targetAcquireTime / 4
+                && hikariPoolMXBean.getActiveConnections() < size / 2 && size > adaptive.getMinimumPoolSize()) {
+            resize(dataSource, hikariDataSource, size, size - 1, "down");
+        }
+    }
+
+    private void resize(InstrumentedDataSource dataSource, HikariDataSource hikariDataSource, int from, int to,
+                        String direction) {
+        hikariDataSource.setMaximumPoolSize(to);
+        hikariDataSource.setMinimumIdle(Math.min(hikariDataSource.getMinimumIdle(), Math.max(0, to - 1)));
+
+        Counter.builder("ascent.datasource.pool.resizes")
+                .description("Pool size changes made by the adaptive controller")
+                .tag("pool", dataSource.getPool())
+                .tag("direction", direction)
+                .register(meterRegistry)
+                .increment();
+
+        logger.info("Resized pool " + dataSource.getPool() + " from " + from + " to " + to);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package org.ascent.datasources;
+
+import lombok.RequiredArgsConstructor;
+import org.ascent.properties.DataSourceRoutingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesRegistry {
+
+    private final DataSourceRoutingProperties dataSourceRoutingProperties;
+
+    private final Map<String, Long> writes = new ConcurrentHashMap<>();
+
+    public void recordWrite(String key) {
+        long now = System.nanoTime();
+
+        writes.values().removeIf(deadline -> deadline - now < 0);
+        writes.put(key, now + dataSourceRoutingProperties.getReadYourWritesWindow().toNanos());
+    }
+
+    public boolean isRecent(String key) {
+        Long deadline = writes.get(key);
+
+        if (deadline == null) {
+            return false;
+        }
+
+        if (deadline - System.nanoTime() < 0) {
+            writes.remove(key, deadline);
+            return false;
+        }
+
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package org.ascent.datasources;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ascent.properties.DataSourceRoutingProperties;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+
+public class ReplicaLagMonitor {
+
+    private final static Logger logger = Logger.getLogger(ReplicaLagMonitor.class.getName());
+
+    private final DataSource replicaDataSource;
+
+    private final DataSourceRoutingProperties dataSourceRoutingProperties;
+
+    private volatile long lagSeconds = -1;
+
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, DataSourceRoutingProperties dataSourceRoutingProperties,
+                             MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.dataSourceRoutingProperties = dataSourceRoutingProperties;
+
+        Gauge.builder("ascent.datasource.replica.lag", this, ReplicaLagMonitor::getLagSeconds)
+                .description("Replication lag of the replica, -1 when unknown")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public void check() {
+        long lag = measureLag();
+        boolean available = lag >= 0 && lag <= dataSourceRoutingProperties.getMaxLag().toSeconds();
+
+        if (available != replicaAvailable) {
+            if (available) {
+                logger.info("Replica lag is " + lag + " s, routing read-only transactions to the replica");
+            } else {
+                logger.warning("Replica lag is " + (lag < 0 ? "unknown" : lag + " s")
+                        + ", routing read-only transactions to the primary");
+            }
+        }
+
+        lagSeconds = lag;
+        replicaAvailable = available;
+    }
+
+    private long measureLag() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(dataSourceRoutingProperties.getLagQuery())) {
+            if (!resultSet.next()) {
+                return -1;
+            }
+
+            long lag = resultSet.getLong(dataSourceRoutingProperties.getLagColumn());
+            return resultSet.wasNull() ? -1 : lag;
+        } catch (SQLException sqlException) {
+            logger.fine(sqlException.getMessage());
+            return -1;
+        }
+    }
+}
\ No newline at end of file
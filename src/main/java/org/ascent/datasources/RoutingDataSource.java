@@ -0,0 +1,54 @@
+package org.ascent.datasources;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ascent.enums.DataSourceTarget;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    private final Counter primaryCounter;
+
+    private final Counter replicaCounter;
+
+    public RoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                             ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primaryCounter = counter(meterRegistry, DataSourceTarget.PRIMARY);
+        this.replicaCounter = counter(meterRegistry, DataSourceTarget.REPLICA);
+
+        setTargetDataSources(Map.of(
+                DataSourceTarget.PRIMARY, primaryDataSource,
+                DataSourceTarget.REPLICA, replicaDataSource
+        ));
+        setDefaultTargetDataSource(primaryDataSource);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRouting.isPrimaryForced()
+                && replicaLagMonitor.isReplicaAvailable()) {
+            replicaCounter.increment();
+            return DataSourceTarget.REPLICA;
+        }
+
+        primaryCounter.increment();
+        return DataSourceTarget.PRIMARY;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, DataSourceTarget dataSourceTarget) {
+        return Counter.builder("ascent.datasource.routing")
+                .description("Connections handed out by the routing datasource")
+                .tag("target", dataSourceTarget.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package org.ascent.directories;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.ascent.requests.DirectoryRequest;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class DirectoryPage {
+
+    private final List<DirectoryRow> rows;
+
+    private final DirectoryRequest next;
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package org.ascent.directories;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.ascent.enums.Role;
+
+import java.time.Instant;
+
+@Getter
+@RequiredArgsConstructor
+public class DirectoryRow {
+
+    private final long id;
+
+    private final String username;
+
+    private final String email;
+
+    private final String emailCanonical;
+
+    private final Role role;
+
+    private final boolean disabled;
+
+    private final Instant createdOn;
+
+    private final Instant lastLogin;
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package org.ascent.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.ascent.enums.LoginOutcome;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "login_event", indexes = {
+        @Index(name = "idx_login_event_user_outcome", columnList = "user_id, outcome, occurred_on")
+})
+public class LoginEvent {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "email_canonical")
+    private String emailCanonical;
+
+    @Column(name = "ip_address", length = 45)
+    private String ipAddress;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome")
+    private LoginOutcome outcome;
+
+    @Column(name = "occurred_on")
+    private Instant occurredOn;
+}
\ No newline at end of file
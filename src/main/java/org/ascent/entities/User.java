@@ -1,29 +1,45 @@
 package org.ascent.entities;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.ascent.enums.Role;
+import org.ascent.generators.SnowflakeId;
+import org.ascent.listeners.UserCredentialListener;
 
 import java.time.Instant;
+import java.util.Locale;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "user")
+@EntityListeners(UserCredentialListener.class)
+@Table(name = "user", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_username", columnNames = "username"),
+        @UniqueConstraint(name = "uk_user_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_user_email_canonical", columnNames = "email_canonical")
+}, indexes = {
+        @Index(name = "idx_user_created_on", columnList = "created_on"),
+        @Index(name = "idx_user_role_disabled", columnList = "role, disabled")
+})
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "username", unique = true)
+    @Column(name = "username")
     private String username;
 
-    @Column(name = "email", unique = true)
+    @Column(name = "email")
     private String email;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "email_canonical")
+    private String emailCanonical;
+
     @Column(name = "password", length = 60)
     private String password;
 
@@ -39,4 +55,23 @@ public class User {
 
     @Column(name = "last_login")
     private Instant lastLogin;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private String loadedEmailCanonical;
+
+    @PostLoad
+    private void rememberEmailCanonical() {
+        loadedEmailCanonical = emailCanonical;
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void canonicalizeEmail() {
+        emailCanonical = canonicalEmail(email);
+    }
+
+    public static String canonicalEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package org.ascent.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuditType {
+    LOGIN_SUCCESS((byte) 1),
+    LOGIN_INVALID_CREDENTIALS((byte) 2),
+    LOGIN_USER_DISABLED((byte) 3),
+    LOGIN_ERROR((byte) 4),
+    LOGOUT((byte) 5),
+    LOGOUT_ERROR((byte) 6),
+    REGISTER_SUCCESS((byte) 7),
+    REGISTER_REJECTED((byte) 8),
+    REGISTER_CONFLICT((byte) 9),
+    REGISTER_ERROR((byte) 10),
+    THROTTLED((byte) 11);
+
+    private final byte code;
+
+    public static AuditType fromCode(byte code) {
+        for (AuditType auditType : values()) {
+            if (auditType.code == code) {
+                return auditType;
+            }
+        }
+
+        return null;
+    }
+}
\ No newline at end of file
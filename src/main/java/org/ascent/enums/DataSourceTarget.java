@@ -0,0 +1,6 @@
+package org.ascent.enums;
+
+public enum DataSourceTarget {
+    PRIMARY,
+    REPLICA
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.ascent.enums;
+
+public enum DirectoryField {
+    USERNAME,
+    EMAIL
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package org.ascent.enums;
+
+public enum ImportOutcome {
+    IMPORTED,
+    MALFORMED,
+    INVALID_USERNAME,
+    INVALID_EMAIL,
+    INVALID_PASSWORD,
+    DUPLICATE,
+    EXISTING
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package org.ascent.enums;
+
+public enum LoginOutcome {
+    SUCCESS,
+    INVALID_CREDENTIALS,
+    DISABLED
+}
\ No newline at end of file
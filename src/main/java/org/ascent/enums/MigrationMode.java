@@ -0,0 +1,7 @@
+package org.ascent.enums;
+
+public enum MigrationMode {
+    MIGRATE,
+    VALIDATE,
+    NONE
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package org.ascent.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Trigger {
+    AUTH_CHANGED("auth-changed"),
+    USER_REGISTERED("user-registered");
+
+    private final String event;
+}
\ No newline at end of file
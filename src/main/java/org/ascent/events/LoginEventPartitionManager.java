@@ -0,0 +1,132 @@
+package org.ascent.events;
+
+import org.ascent.properties.LoginEventProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+public class LoginEventPartitionManager {
+
+    private final static Logger logger = Logger.getLogger(LoginEventPartitionManager.class.getName());
+
+    private final static DateTimeFormatter partitionMonth = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final static Pattern monthlyPartition = Pattern.compile("p\\d{6}");
+
+    private final static String partitionsQuery = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'login_event' AND PARTITION_NAME IS NOT NULL";
+
+    private final static String lockQuery = "SELECT GET_LOCK('login_event_partitions', 0)";
+
+    private final static String unlockQuery = "DO RELEASE_LOCK('login_event_partitions')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final LoginEventProperties.Partitions partitions;
+
+    private final Clock clock;
+
+    public LoginEventPartitionManager(JdbcTemplate jdbcTemplate, LoginEventProperties.Partitions partitions,
+                                      Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitions = partitions;
+        this.clock = clock;
+    }
+
+    public void maintain() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!"MySQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                    return null;
+                }
+
+                if (!lock(connection)) {
+                    logger.fine("Login event partition maintenance is running on another node");
+                    return null;
+                }
+
+                try {
+                    maintain(connection);
+                } finally {
+                    unlock(connection);
+                }
+
+                return null;
+            });
+        } catch (DataAccessException dataAccessException) {
+            logger.warning("Login event partition maintenance failed: " + dataAccessException.getMessage());
+        }
+    }
+
+    private void maintain(Connection connection) throws SQLException {
+        List<String> existing = new ArrayList<>();
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(partitionsQuery)) {
+            while (resultSet.next()) {
+                existing.add(resultSet.getString(1));
+            }
+        }
+
+        for (String ddl : plan(existing, YearMonth.now(clock))) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(ddl);
+            }
+
+            logger.info("Login event partitions: " + ddl);
+        }
+    }
+
+    private static boolean lock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lockQuery)) {
+            return resultSet.next() && resultSet.getInt(1) == 1;
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(unlockQuery);
+        }
+    }
+
+    public List<String> plan(Collection<String> existing, YearMonth now) {
+        List<String> statements = new ArrayList<>();
+
+        YearMonth oldest = now.minusMonths(partitions.getRetentionMonths());
+        YearMonth latest = null;
+
+        for (String name : existing.stream().filter(name -> monthlyPartition.matcher(name).matches()).sorted().toList()) {
+            YearMonth month = YearMonth.parse(name, partitionMonth);
+
+            if (month.isBefore(oldest)) {
+                statements.add("ALTER TABLE login_event DROP PARTITION " + name);
+            }
+
+            latest = month;
+        }
+
+        YearMonth month = latest == null || latest.isBefore(now) ? now : latest.plusMonths(1);
+        for (; !month.isAfter(now.plusMonths(partitions.getPrecreateMonths())); month = month.plusMonths(1)) {
+            statements.add("ALTER TABLE login_event REORGANIZE PARTITION p_future INTO ("
+                    + "PARTITION " + month.format(partitionMonth)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + " 00:00:00'), "
+                    + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        }
+
+        return statements;
+    }
+}
\ No newline at end of file
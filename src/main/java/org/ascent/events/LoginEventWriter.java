@@ -0,0 +1,207 @@
+package org.ascent.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ascent.entities.LoginEvent;
+import org.ascent.enums.LoginOutcome;
+import org.ascent.generators.SnowflakeIdGenerator;
+import org.ascent.properties.LoginEventProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+@Component
+public class LoginEventWriter implements SmartLifecycle {
+
+    private final static Logger logger = Logger.getLogger(LoginEventWriter.class.getName());
+
+    private final static String insertQuery = "INSERT INTO login_event "
+            + "(id, user_id, email_canonical, ip_address, outcome, occurred_on) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final static String lastLoginQuery = "UPDATE `user` SET last_login = ? "
+            + "WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final LoginEventProperties loginEventProperties;
+
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BlockingQueue<LoginEvent> queue;
+
+    private final Counter written;
+
+    private final Counter dropped;
+
+    private final Counter failed;
+
+    private volatile boolean running = false;
+
+    private Thread thread;
+
+    public LoginEventWriter(LoginEventProperties loginEventProperties, SnowflakeIdGenerator snowflakeIdGenerator,
+                            JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.loginEventProperties = loginEventProperties;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(loginEventProperties.getQueueCapacity());
+        this.written = counter(meterRegistry, "written");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.failed = counter(meterRegistry, "failed");
+
+        Gauge.builder("ascent.login.events.queued", queue, Collection::size)
+                .description("Login events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ascent.login.events")
+                .description("Login events, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public void record(Long userId, String emailCanonical, String ipAddress, LoginOutcome loginOutcome) {
+        LoginEvent loginEvent = new LoginEvent(snowflakeIdGenerator.nextId(), userId, emailCanonical, ipAddress,
+                loginOutcome, Instant.now());
+
+        if (!queue.offer(loginEvent)) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::drain, "login-event-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<LoginEvent> batch = new ArrayList<>(loginEventProperties.getBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                LoginEvent loginEvent = queue.poll(1, TimeUnit.SECONDS);
+
+                if (loginEvent == null) {
+                    continue;
+                }
+
+                batch.add(loginEvent);
+                long deadline = System.nanoTime() + loginEventProperties.getLinger().toNanos();
+
+                while (batch.size() < loginEventProperties.getBatchSize()) {
+                    queue.drainTo(batch, loginEventProperties.getBatchSize() - batch.size());
+
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() == loginEventProperties.getBatchSize() || remaining <= 0 || !running) {
+                        break;
+                    }
+
+                    loginEvent = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (loginEvent == null) {
+                        break;
+                    }
+                    batch.add(loginEvent);
+                }
+
+                write(batch);
+            } catch (InterruptedException interruptedException) {
+                write(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<LoginEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(insertQuery, batch, batch.size(), (preparedStatement, loginEvent) -> {
+                preparedStatement.setLong(1, loginEvent.getId());
+                preparedStatement.setObject(2, loginEvent.getUserId(), Types.BIGINT);
+                preparedStatement.setString(3, loginEvent.getEmailCanonical());
+                preparedStatement.setString(4, loginEvent.getIpAddress());
+                preparedStatement.setString(5, loginEvent.getOutcome().name());
+                preparedStatement.setTimestamp(6, Timestamp.from(loginEvent.getOccurredOn()));
+            });
+            written.increment(batch.size());
+        } catch (DataAccessException dataAccessException) {
+            failed.increment(batch.size());
+            logger.warning("Writing " + batch.size() + " login events failed: " + dataAccessException.getMessage());
+            return;
+        }
+
+        writeLastLogins(batch);
+    }
+
+    private void writeLastLogins(List<LoginEvent> batch) {
+        Map<Long, Instant> lastLogins = new TreeMap<>();
+
+        for (LoginEvent loginEvent : batch) {
+            if (loginEvent.getOutcome() == LoginOutcome.SUCCESS && loginEvent.getUserId() != null) {
+                lastLogins.merge(loginEvent.getUserId(), loginEvent.getOccurredOn(),
+                        (current, occurredOn) -> occurredOn.isAfter(current) ? occurredOn : current);
+            }
+        }
+
+        if (lastLogins.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(lastLoginQuery, lastLogins.entrySet(), lastLogins.size(),
+                    (preparedStatement, lastLogin) -> {
+                        Timestamp occurredOn = Timestamp.from(lastLogin.getValue());
+                        preparedStatement.setTimestamp(1, occurredOn);
+                        preparedStatement.setLong(2, lastLogin.getKey());
+                        preparedStatement.setTimestamp(3, occurredOn);
+                    });
+        } catch (DataAccessException dataAccessException) {
+            logger.warning("Updating last login of " + lastLogins.size() + " users failed: "
+                    + dataAccessException.getMessage());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.ascent.exceptions;
+
+public class AdminRequiredException extends RuntimeException {
+
+    public AdminRequiredException() { }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.ascent.exceptions;
+
+public class ImportInProgressException extends RuntimeException {
+
+    public ImportInProgressException() { }
+}
\ No newline at end of file
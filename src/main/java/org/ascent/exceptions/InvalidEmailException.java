@@ -0,0 +1,8 @@
+package org.ascent.exceptions;
+
+public class InvalidEmailException extends RuntimeException {
+
+    public InvalidEmailException() {
+        super(null, null, false, false);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package org.ascent.exceptions;
+
+public class InvalidPasswordException extends RuntimeException {
+
+    public InvalidPasswordException() {
+        super(null, null, false, false);
+    }
+}
\ No newline at end of file
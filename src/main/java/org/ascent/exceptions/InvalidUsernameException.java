@@ -0,0 +1,8 @@
+package org.ascent.exceptions;
+
+public class InvalidUsernameException extends RuntimeException {
+
+    public InvalidUsernameException() {
+        super(null, null, false, false);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.ascent.exceptions;
+
+public class ThrottledException extends RuntimeException {
+
+    public ThrottledException() { }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package org.ascent.executors;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TimestampingExecutorCustomizer implements TomcatProtocolHandlerCustomizer<ProtocolHandler>, DisposableBean {
+
+    private final ServerProperties serverProperties;
+
+    private final List<TimestampingThreadPoolExecutor> executors = new ArrayList<>();
+
+    @Override
+    public synchronized void customize(ProtocolHandler protocolHandler) {
+        ServerProperties.Tomcat.Threads threads = serverProperties.getTomcat().getThreads();
+        TimestampingThreadPoolExecutor executor = new TimestampingThreadPoolExecutor("http-exec-",
+                threads.getMinSpare(), threads.getMax());
+
+        executors.add(executor);
+        protocolHandler.setExecutor(executor);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        executors.forEach(TimestampingThreadPoolExecutor::shutdown);
+        executors.clear();
+    }
+}
\ No newline at end of file
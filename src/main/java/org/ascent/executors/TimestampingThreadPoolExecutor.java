@@ -0,0 +1,42 @@
+package org.ascent.executors;
+
+import org.apache.tomcat.util.threads.TaskQueue;
+import org.apache.tomcat.util.threads.TaskThreadFactory;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+public class TimestampingThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final static ThreadLocal<long[]> enqueuedOn = ThreadLocal.withInitial(() -> new long[1]);
+
+    public TimestampingThreadPoolExecutor(String namePrefix, int minSpareThreads, int maxThreads) {
+        super(minSpareThreads, maxThreads, 60, TimeUnit.SECONDS, new TaskQueue(),
+                new TaskThreadFactory(namePrefix, true, Thread.NORM_PRIORITY));
+        ((TaskQueue) getQueue()).setParent(this);
+    }
+
+    public static long takeQueueDelayNanos(long nowNanos) {
+        long[] holder = enqueuedOn.get();
+        long enqueued = holder[0];
+        holder[0] = 0;
+
+        return enqueued == 0 ? -1 : Math.max(0, nowNanos - enqueued);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long enqueued = System.nanoTime();
+
+        super.execute(() -> {
+            long[] holder = enqueuedOn.get();
+            holder[0] = enqueued;
+
+            try {
+                command.run();
+            } finally {
+                holder[0] = 0;
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package org.ascent.exports;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+
+public class CsvExportWriter implements ExportWriter {
+
+    private final Writer writer;
+
+    public CsvExportWriter(Writer writer) throws IOException {
+        this.writer = writer;
+
+        writer.write("id,username,email,role,disabled,created_on,last_login\r\n");
+    }
+
+    @Override
+    public void write(ExportRow exportRow) throws IOException {
+        writer.write(Long.toString(exportRow.getId()));
+        writer.write(',');
+        writeField(exportRow.getUsername());
+        writer.write(',');
+        writeField(exportRow.getEmail());
+        writer.write(',');
+        writer.write(exportRow.getRole() == null ? "" : exportRow.getRole().name());
+        writer.write(',');
+        writer.write(Boolean.toString(exportRow.isDisabled()));
+        writer.write(',');
+        writeInstant(exportRow.getCreatedOn());
+        writer.write(',');
+        writeInstant(exportRow.getLastLogin());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char c = value.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private void writeInstant(Instant instant) throws IOException {
+        if (instant != null) {
+            writer.write(instant.toString());
+        }
+    }
+}
\ No newline at end of file
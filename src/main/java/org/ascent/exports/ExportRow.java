@@ -0,0 +1,26 @@
+package org.ascent.exports;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.ascent.enums.Role;
+
+import java.time.Instant;
+
+@Getter
+@RequiredArgsConstructor
+public class ExportRow {
+
+    private final long id;
+
+    private final String username;
+
+    private final String email;
+
+    private final Role role;
+
+    private final boolean disabled;
+
+    private final Instant createdOn;
+
+    private final Instant lastLogin;
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package org.ascent.exports;
+
+import java.io.IOException;
+
+public interface ExportWriter {
+
+    void write(ExportRow exportRow) throws IOException;
+
+    void flush() throws IOException;
+}
\ No newline at end of file
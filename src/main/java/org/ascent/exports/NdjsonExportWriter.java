@@ -0,0 +1,42 @@
+package org.ascent.exports;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+
+public class NdjsonExportWriter implements ExportWriter {
+
+    private final JsonGenerator jsonGenerator;
+
+    public NdjsonExportWriter(Writer writer, JsonFactory jsonFactory) throws IOException {
+        this.jsonGenerator = jsonFactory.createGenerator(writer);
+        this.jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.jsonGenerator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(ExportRow exportRow) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeNumberField("id", exportRow.getId());
+        jsonGenerator.writeStringField("username", exportRow.getUsername());
+        jsonGenerator.writeStringField("email", exportRow.getEmail());
+        jsonGenerator.writeStringField("role", exportRow.getRole() == null ? null : exportRow.getRole().name());
+        jsonGenerator.writeBooleanField("disabled", exportRow.isDisabled());
+        writeInstant("createdOn", exportRow.getCreatedOn());
+        writeInstant("lastLogin", exportRow.getLastLogin());
+        jsonGenerator.writeEndObject();
+        jsonGenerator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        jsonGenerator.flush();
+    }
+
+    private void writeInstant(String name, Instant instant) throws IOException {
+        jsonGenerator.writeStringField(name, instant == null ? null : instant.toString());
+    }
+}
\ No newline at end of file
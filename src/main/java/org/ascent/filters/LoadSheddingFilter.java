@@ -0,0 +1,173 @@
+package org.ascent.filters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.util.NetMask;
+import org.ascent.admissions.CoDel;
+import org.ascent.audits.AuditLog;
+import org.ascent.enums.AuditType;
+import org.ascent.executors.TimestampingThreadPoolExecutor;
+import org.ascent.properties.LoadSheddingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final static AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    private final LoadSheddingProperties loadSheddingProperties;
+
+    private final AuditLog auditLog;
+
+    private final CoDel coDel;
+
+    private final List<NetMask> trustedProxies;
+
+    private final String retryAfter;
+
+    private final Timer queueDelay;
+
+    private final Counter admitted;
+
+    private final Counter dropped;
+
+    public LoadSheddingFilter(LoadSheddingProperties loadSheddingProperties, AuditLog auditLog,
+                              MeterRegistry meterRegistry) {
+        this.loadSheddingProperties = loadSheddingProperties;
+        this.auditLog = auditLog;
+        this.coDel = new CoDel(loadSheddingProperties.getTarget().toNanos(),
+                loadSheddingProperties.getInterval().toNanos(), System.nanoTime());
+        this.trustedProxies = loadSheddingProperties.getTrustedProxies().stream().map(NetMask::new).toList();
+        this.retryAfter = String.valueOf(Math.max(1, loadSheddingProperties.getRetryAfter().toSeconds()));
+        this.queueDelay = Timer.builder("ascent.load.shedding.queue.delay")
+                .description("Time requests spent queued before reaching the application")
+                .register(meterRegistry);
+        this.admitted = counter(meterRegistry, "admitted");
+        this.dropped = counter(meterRegistry, "dropped");
+
+        Gauge.builder("ascent.load.shedding.overloaded", coDel, c -> c.isOverloaded() ? 1 : 0)
+                .description("Whether queueing delay stayed above target for the last interval")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ascent.load.shedding.requests")
+                .description("Requests seen by the load shedding filter, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public static long requestStartMillis(String value) {
+        if (value == null) {
+            return -1;
+        }
+
+        String timestamp = value.startsWith("t=") ? value.substring(2) : value;
+
+        try {
+            if (timestamp.contains(".")) {
+                return (long) (Double.parseDouble(timestamp) * 1000);
+            }
+
+            long number = Long.parseLong(timestamp);
+
+            if (number > 100_000_000_000_000_000L) {
+                return number / 1_000_000;
+            } else if (number > 100_000_000_000_000L) {
+                return number / 1_000;
+            } else if (number > 100_000_000_000L) {
+                return number;
+            } else {
+                return number * 1000;
+            }
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!loadSheddingProperties.isEnabled()) {
+            return true;
+        }
+
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        return loadSheddingProperties.getExcludedPaths().stream()
+                .anyMatch(pattern -> antPathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.nanoTime();
+        long delay = queueDelayNanos(request, now);
+
+        if (delay >= 0) {
+            queueDelay.record(delay, TimeUnit.NANOSECONDS);
+
+            if (coDel.shouldDrop(delay, now)) {
+                dropped.increment();
+                auditLog.record(request, AuditType.THROTTLED);
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+                response.setContentLength(0);
+                return;
+            }
+        }
+
+        admitted.increment();
+        filterChain.doFilter(request, response);
+    }
+
+    private long queueDelayNanos(HttpServletRequest request, long now) {
+        long delay = TimestampingThreadPoolExecutor.takeQueueDelayNanos(now);
+        String requestStartHeader = loadSheddingProperties.getRequestStartHeader();
+
+        if (requestStartHeader == null || requestStartHeader.isEmpty() || !isTrustedProxy(request.getRemoteAddr())) {
+            return delay;
+        }
+
+        long startMillis = requestStartMillis(request.getHeader(requestStartHeader));
+
+        if (startMillis > 0) {
+            long headerDelay = TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis() - startMillis));
+            delay = Math.max(delay, headerDelay);
+        }
+
+        return delay;
+    }
+
+    private boolean isTrustedProxy(String remoteAddr) {
+        if (trustedProxies.isEmpty() || remoteAddr == null) {
+            return false;
+        }
+
+        try {
+            InetAddress inetAddress = InetAddress.getByName(remoteAddr);
+            return trustedProxies.stream().anyMatch(netMask -> netMask.matches(inetAddress));
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
\ No newline at end of file
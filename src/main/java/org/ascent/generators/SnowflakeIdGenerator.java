@@ -0,0 +1,69 @@
+package org.ascent.generators;
+
+import java.time.Clock;
+import java.time.Instant;
+
+public class SnowflakeIdGenerator {
+
+    public final static int nodeBits = 10;
+
+    public final static int sequenceBits = 12;
+
+    public final static int maxNodeId = (1 << nodeBits) - 1;
+
+    private final static int maxSequence = (1 << sequenceBits) - 1;
+
+    private static volatile SnowflakeIdGenerator shared;
+
+    private final Clock clock;
+
+    private final long epoch;
+
+    private final long node;
+
+    private long timestamp = -1;
+
+    private long sequence = 0;
+
+    public SnowflakeIdGenerator(int nodeId, Instant epoch, Clock clock) {
+        if (nodeId < 0 || nodeId > maxNodeId) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + maxNodeId);
+        }
+
+        this.clock = clock;
+        this.epoch = epoch.toEpochMilli();
+        this.node = (long) nodeId << sequenceBits;
+    }
+
+    public static SnowflakeIdGenerator shared() {
+        SnowflakeIdGenerator snowflakeIdGenerator = shared;
+
+        if (snowflakeIdGenerator == null) {
+            throw new IllegalStateException("Snowflake id generator has not been configured");
+        }
+
+        return snowflakeIdGenerator;
+    }
+
+    public static void share(SnowflakeIdGenerator snowflakeIdGenerator) {
+        shared = snowflakeIdGenerator;
+    }
+
+    public synchronized long nextId() {
+        long now = clock.millis() - epoch;
+
+        if (now > timestamp) {
+            timestamp = now;
+            sequence = 0;
+        } else if (++sequence > maxSequence) {
+            timestamp++;
+            sequence = 0;
+        }
+
+        return timestamp << (nodeBits + sequenceBits) | node | sequence;
+    }
+
+    public Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (nodeBits + sequenceBits)) + epoch);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package org.ascent.handlers;
+
+import lombok.RequiredArgsConstructor;
+import org.ascent.audits.AuditLog;
+import org.ascent.entities.User;
+import org.ascent.enums.AuditType;
+import org.ascent.enums.Trigger;
+import org.ascent.exceptions.InvalidCredentialsException;
+import org.ascent.exceptions.UserDisabledException;
+import org.ascent.managers.ReactiveLoginManager;
+import org.ascent.requests.LoginRequest;
+import org.ascent.validators.CredentialValidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class LoginHandler {
+
+    private final static Logger logger = Logger.getLogger(LoginHandler.class.getName());
+
+    private final CredentialValidator credentialValidator;
+
+    private final ReactiveLoginManager reactiveLoginManager;
+
+    private final AuditLog auditLog;
+
+    public Mono<ServerResponse> login(ServerRequest serverRequest) {
+        return login(serverRequest, ServerResponse.ok().render("responses/login_response :: success"));
+    }
+
+    public Mono<ServerResponse> loginMinimal(ServerRequest serverRequest) {
+        return login(serverRequest, ServerResponse.noContent()
+                .header("HX-Trigger", Trigger.AUTH_CHANGED.getEvent())
+                .header("Preference-Applied", "return=minimal")
+                .build());
+    }
+
+    private Mono<ServerResponse> login(ServerRequest serverRequest, Mono<ServerResponse> success) {
+        String address = RequestBodies.address(serverRequest);
+        boolean warmup = RequestBodies.isWarmup(serverRequest);
+        BiConsumer<AuditType, String> audit = (type, subject) -> {
+            if (!warmup) {
+                auditLog.record(type, address, subject);
+            }
+        };
+
+        return RequestBodies.read(serverRequest, LoginRequest.class)
+                .flatMap(loginRequest -> {
+                    String subject = User.canonicalEmail(loginRequest.getEmail());
+
+                    return serverRequest.session()
+                            .flatMap(webSession -> {
+                                credentialValidator.validate(loginRequest);
+                                return reactiveLoginManager.login(webSession, loginRequest, address, !warmup);
+                            })
+                            .then(Mono.defer(() -> {
+                                audit.accept(AuditType.LOGIN_SUCCESS, subject);
+                                return success;
+                            }))
+                            .onErrorResume(e -> handleException(e, audit, subject));
+                })
+                .onErrorResume(e -> handleException(e, audit, null));
+    }
+
+    private Mono<ServerResponse> handleException(Throwable e, BiConsumer<AuditType, String> audit, String subject) {
+        if (e instanceof InvalidCredentialsException) {
+            audit.accept(AuditType.LOGIN_INVALID_CREDENTIALS, subject);
+            return ServerResponse.status(HttpStatus.UNAUTHORIZED)
+                    .render("responses/login_response :: invalid_credentials");
+        }
+
+        if (e instanceof UserDisabledException) {
+            audit.accept(AuditType.LOGIN_USER_DISABLED, subject);
+            return ServerResponse.status(HttpStatus.UNAUTHORIZED).render("responses/login_response :: user_disabled");
+        }
+
+        audit.accept(AuditType.LOGIN_ERROR, subject);
+        logger.severe(e.getMessage());
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).render("responses/login_response :: error");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package org.ascent.handlers;
+
+import lombok.RequiredArgsConstructor;
+import org.ascent.audits.AuditLog;
+import org.ascent.enums.AuditType;
+import org.ascent.enums.Trigger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.logging.Logger;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class LogoutHandler {
+
+    private final static Logger logger = Logger.getLogger(LogoutHandler.class.getName());
+
+    private final AuditLog auditLog;
+
+    public Mono<ServerResponse> logout(ServerRequest serverRequest) {
+        return logout(serverRequest, ServerResponse.ok().render("responses/logout_response :: success"));
+    }
+
+    public Mono<ServerResponse> logoutMinimal(ServerRequest serverRequest) {
+        return logout(serverRequest, ServerResponse.noContent()
+                .header("HX-Trigger", Trigger.AUTH_CHANGED.getEvent())
+                .header("Preference-Applied", "return=minimal")
+                .build());
+    }
+
+    private Mono<ServerResponse> logout(ServerRequest serverRequest, Mono<ServerResponse> success) {
+        String address = RequestBodies.address(serverRequest);
+
+        return serverRequest.session()
+                .flatMap(webSession -> {
+                    String subject = webSession.getAttribute("username");
+
+                    return webSession.invalidate()
+                            .then(Mono.defer(() -> {
+                                auditLog.record(AuditType.LOGOUT, address, subject);
+                                return success;
+                            }));
+                })
+                .onErrorResume(e -> {
+                    auditLog.record(AuditType.LOGOUT_ERROR, address, null);
+                    logger.severe(e.getMessage());
+                    return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .render("responses/logout_response :: error");
+                });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package org.ascent.handlers;
+
+import lombok.RequiredArgsConstructor;
+import org.ascent.audits.AuditLog;
+import org.ascent.enums.AuditType;
+import org.ascent.enums.Trigger;
+import org.ascent.exceptions.EmailAlreadyInUseException;
+import org.ascent.exceptions.InvalidEmailException;
+import org.ascent.exceptions.InvalidPasswordException;
+import org.ascent.exceptions.InvalidUsernameException;
+import org.ascent.exceptions.UsernameAlreadyInUseException;
+import org.ascent.managers.ReactiveRegisterManager;
+import org.ascent.requests.RegisterRequest;
+import org.ascent.validators.CredentialValidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class RegisterHandler {
+
+    private final static Logger logger = Logger.getLogger(RegisterHandler.class.getName());
+
+    private final CredentialValidator credentialValidator;
+
+    private final ReactiveRegisterManager reactiveRegisterManager;
+
+    private final AuditLog auditLog;
+
+    public Mono<ServerResponse> register(ServerRequest serverRequest) {
+        return register(serverRequest, ServerResponse.status(HttpStatus.CREATED)
+                .render("responses/register_response :: success"));
+    }
+
+    public Mono<ServerResponse> registerMinimal(ServerRequest serverRequest) {
+        return register(serverRequest, ServerResponse.noContent()
+                .header("HX-Trigger", Trigger.USER_REGISTERED.getEvent())
+                .header("Preference-Applied", "return=minimal")
+                .build());
+    }
+
+    private Mono<ServerResponse> register(ServerRequest serverRequest, Mono<ServerResponse> success) {
+        String address = RequestBodies.address(serverRequest);
+        boolean warmup = RequestBodies.isWarmup(serverRequest);
+        BiConsumer<AuditType, String> audit = (type, subject) -> {
+            if (!warmup) {
+                auditLog.record(type, address, subject);
+            }
+        };
+
+        return RequestBodies.read(serverRequest, RegisterRequest.class)
+                .flatMap(registerRequest -> Mono.defer(() -> {
+                            credentialValidator.validate(registerRequest);
+                            return reactiveRegisterManager.register(registerRequest);
+                        })
+                        .then(Mono.defer(() -> {
+                            audit.accept(AuditType.REGISTER_SUCCESS, registerRequest.getUsername());
+                            return success;
+                        }))
+                        .onErrorResume(e -> handleException(e, audit, registerRequest.getUsername())))
+                .onErrorResume(e -> handleException(e, audit, null));
+    }
+
+    private Mono<ServerResponse> handleException(Throwable e, BiConsumer<AuditType, String> audit, String subject) {
+        String fragment;
+
+        if (e instanceof InvalidUsernameException) {
+            fragment = "invalid_username";
+        } else if (e instanceof InvalidEmailException) {
+            fragment = "invalid_email";
+        } else if (e instanceof InvalidPasswordException) {
+            fragment = "invalid_password";
+        } else if (e instanceof UsernameAlreadyInUseException) {
+            audit.accept(AuditType.REGISTER_CONFLICT, subject);
+            return ServerResponse.status(HttpStatus.CONFLICT)
+                    .render("responses/register_response :: username_already_in_use");
+        } else if (e instanceof EmailAlreadyInUseException) {
+            audit.accept(AuditType.REGISTER_CONFLICT, subject);
+            return ServerResponse.status(HttpStatus.CONFLICT)
+                    .render("responses/register_response :: email_already_in_use");
+        } else {
+            audit.accept(AuditType.REGISTER_ERROR, subject);
+            logger.severe(e.getMessage());
+            return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .render("responses/register_response :: error");
+        }
+
+        audit.accept(AuditType.REGISTER_REJECTED, subject);
+        return ServerResponse.status(HttpStatus.BAD_REQUEST).render("responses/register_response :: " + fragment);
+    }
+}
\ No newline at end of file
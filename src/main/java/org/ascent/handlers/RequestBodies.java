@@ -0,0 +1,36 @@
+package org.ascent.handlers;
+
+import org.ascent.converters.FormRequestHttpMessageConverter;
+import org.ascent.runners.WarmupRequests;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+public class RequestBodies {
+
+    public static <T> Mono<T> read(ServerRequest serverRequest, Class<T> clazz) {
+        boolean form = serverRequest.headers().contentType()
+                .map(MediaType.APPLICATION_FORM_URLENCODED::includes)
+                .orElse(false);
+
+        Mono<T> body = form
+                ? serverRequest.formData().map(formData -> clazz.cast(
+                        FormRequestHttpMessageConverter.bind(clazz, formData::getFirst)))
+                : serverRequest.bodyToMono(clazz);
+
+        return body.switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")));
+    }
+
+    public static boolean isWarmup(ServerRequest serverRequest) {
+        return WarmupRequests.isWarmup(serverRequest.headers().firstHeader(WarmupRequests.header));
+    }
+
+    public static String address(ServerRequest serverRequest) {
+        return serverRequest.remoteAddress()
+                .map(inetSocketAddress -> inetSocketAddress.getAddress() == null
+                        ? inetSocketAddress.getHostString()
+                        : inetSocketAddress.getAddress().getHostAddress())
+                .orElse(null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package org.ascent.handlers;
+
+import lombok.RequiredArgsConstructor;
+import org.ascent.managers.ViewManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ViewHandler {
+
+    private final static CacheControl cacheControl = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
+    private final ViewManager viewManager;
+
+    public Mono<ServerResponse> index(ServerRequest serverRequest) {
+        return serverRequest.session()
+                .flatMap(webSession -> ServerResponse.ok().render("index", viewManager.navbar(webSession)));
+    }
+
+    public Mono<ServerResponse> navbar(ServerRequest serverRequest) {
+        return serverRequest.session()
+                .flatMap(webSession -> ServerResponse.ok()
+                        .render("fragments/navbar :: navbar", viewManager.navbar(webSession)));
+    }
+
+    public Mono<ServerResponse> login(ServerRequest serverRequest) {
+        return ServerResponse.ok().cacheControl(cacheControl).render("fragments/navbar/login :: login");
+    }
+
+    public Mono<ServerResponse> register(ServerRequest serverRequest) {
+        return ServerResponse.ok().cacheControl(cacheControl).render("fragments/navbar/register :: register");
+    }
+
+    public Mono<ServerResponse> logout(ServerRequest serverRequest) {
+        return ServerResponse.ok().cacheControl(cacheControl).render("fragments/navbar/logout :: logout");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package org.ascent.imports;
+
+import org.ascent.requests.ImportRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class CsvImportReader implements ImportReader {
+
+    private final static int maxRecordLength = 65536;
+
+    private final BufferedReader bufferedReader;
+
+    private int usernameColumn = -1;
+
+    private int emailColumn = -1;
+
+    private int passwordColumn = -1;
+
+    private int passwordHashColumn = -1;
+
+    private long line = 0;
+
+    private long recordLine = 0;
+
+    public CsvImportReader(BufferedReader bufferedReader) throws IOException {
+        this.bufferedReader = bufferedReader;
+
+        String header = bufferedReader.readLine();
+        if (header == null) {
+            return;
+        }
+
+        line++;
+        List<String> columns = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "username" -> usernameColumn = i;
+                case "email" -> emailColumn = i;
+                case "password" -> passwordColumn = i;
+                case "password_hash" -> passwordHashColumn = i;
+            }
+        }
+
+        if (usernameColumn < 0 || emailColumn < 0 || (passwordColumn < 0 && passwordHashColumn < 0)) {
+            throw new IllegalArgumentException("CSV header must name username, email and password or password_hash");
+        }
+    }
+
+    @Override
+    public ImportRequest next() throws IOException {
+        String value;
+        do {
+            value = bufferedReader.readLine();
+            if (value == null) {
+                return null;
+            }
+            line++;
+        } while (value.isBlank());
+
+        recordLine = line;
+        List<String> columns = new ArrayList<>();
+        StringBuilder record = new StringBuilder(value);
+
+        while (!split(record, columns)) {
+            String continuation = bufferedReader.readLine();
+            if (continuation == null || record.length() + continuation.length() > maxRecordLength) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            line++;
+            record.append('\n').append(continuation);
+            columns.clear();
+        }
+
+        ImportRequest importRequest = new ImportRequest();
+        importRequest.setUsername(column(columns, usernameColumn));
+        importRequest.setEmail(column(columns, emailColumn));
+        importRequest.setPassword(column(columns, passwordColumn));
+        importRequest.setPasswordHash(column(columns, passwordHashColumn));
+        return importRequest;
+    }
+
+    @Override
+    public long getLine() {
+        return recordLine;
+    }
+
+    private static String column(List<String> columns, int index) {
+        if (index < 0 || index >= columns.size() || columns.get(index).isEmpty()) {
+            return null;
+        }
+        return columns.get(index);
+    }
+
+    public static List<String> split(String value) {
+        List<String> columns = new ArrayList<>();
+
+        if (!split(value, columns)) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+
+        return columns;
+    }
+
+    private static boolean split(CharSequence value, List<String> columns) {
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+
+            if (quoted) {
+                if (character != '"') {
+                    column.append(character);
+                } else if (i + 1 < value.length() && value.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (character == '"' && column.isEmpty()) {
+                quoted = true;
+            } else if (character == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(character);
+            }
+        }
+
+        if (quoted) {
+            return false;
+        }
+
+        columns.add(column.toString());
+        return true;
+    }
+}
\ No newline at end of file
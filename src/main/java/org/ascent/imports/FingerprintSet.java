@@ -0,0 +1,79 @@
+package org.ascent.imports;
+
+public class FingerprintSet {
+
+    private long[] fingerprints = new long[1 << 16];
+
+    private int size = 0;
+
+    public boolean contains(String value) {
+        long fingerprint = fingerprint(value);
+        int mask = fingerprints.length - 1;
+
+        for (int i = (int) fingerprint & mask; fingerprints[i] != 0; i = (i + 1) & mask) {
+            if (fingerprints[i] == fingerprint) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean add(String value) {
+        if (size * 2 >= fingerprints.length) {
+            grow();
+        }
+
+        if (!insert(fingerprints, fingerprint(value))) {
+            return false;
+        }
+
+        size++;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] grown = new long[fingerprints.length * 2];
+        for (long fingerprint : fingerprints) {
+            if (fingerprint != 0) {
+                insert(grown, fingerprint);
+            }
+        }
+        fingerprints = grown;
+    }
+
+    private static boolean insert(long[] fingerprints, long fingerprint) {
+        int mask = fingerprints.length - 1;
+        int i = (int) fingerprint & mask;
+
+        while (fingerprints[i] != 0) {
+            if (fingerprints[i] == fingerprint) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        fingerprints[i] = fingerprint;
+        return true;
+    }
+
+    private static long fingerprint(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash == 0 ? 1 : hash;
+    }
+}
\ No newline at end of file
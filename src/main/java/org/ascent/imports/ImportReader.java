@@ -0,0 +1,12 @@
+package org.ascent.imports;
+
+import org.ascent.requests.ImportRequest;
+
+import java.io.IOException;
+
+public interface ImportReader {
+
+    ImportRequest next() throws IOException;
+
+    long getLine();
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.ascent.imports;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.ascent.enums.ImportOutcome;
+
+@Getter
+@RequiredArgsConstructor
+public class ImportReject {
+
+    private final long line;
+
+    private final ImportOutcome outcome;
+}
\ No newline at end of file
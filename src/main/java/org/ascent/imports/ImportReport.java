@@ -0,0 +1,53 @@
+package org.ascent.imports;
+
+import lombok.Getter;
+import org.ascent.enums.ImportOutcome;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class ImportReport {
+
+    private final Map<ImportOutcome, Long> counts = new EnumMap<>(ImportOutcome.class);
+
+    private final List<ImportReject> rejects = new ArrayList<>();
+
+    private final int maxRejects;
+
+    private long read = 0;
+
+    public ImportReport(int maxRejects) {
+        this.maxRejects = maxRejects;
+
+        for (ImportOutcome importOutcome : ImportOutcome.values()) {
+            counts.put(importOutcome, 0L);
+        }
+    }
+
+    public void read() {
+        read++;
+    }
+
+    public void imported(long count) {
+        counts.merge(ImportOutcome.IMPORTED, count, Long::sum);
+    }
+
+    public void reject(long line, ImportOutcome importOutcome) {
+        counts.merge(importOutcome, 1L, Long::sum);
+
+        if (rejects.size() < maxRejects) {
+            rejects.add(new ImportReject(line, importOutcome));
+        }
+    }
+
+    public long getImported() {
+        return counts.get(ImportOutcome.IMPORTED);
+    }
+
+    public long getRejected() {
+        return read - getImported();
+    }
+}
\ No newline at end of file
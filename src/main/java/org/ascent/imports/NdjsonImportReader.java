@@ -0,0 +1,45 @@
+package org.ascent.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.ascent.requests.ImportRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public class NdjsonImportReader implements ImportReader {
+
+    private final BufferedReader bufferedReader;
+
+    private final ObjectReader objectReader;
+
+    private long line = 0;
+
+    public NdjsonImportReader(BufferedReader bufferedReader, ObjectReader objectReader) {
+        this.bufferedReader = bufferedReader;
+        this.objectReader = objectReader.forType(ImportRequest.class);
+    }
+
+    @Override
+    public ImportRequest next() throws IOException {
+        String value;
+        do {
+            value = bufferedReader.readLine();
+            if (value == null) {
+                return null;
+            }
+            line++;
+        } while (value.isBlank());
+
+        try {
+            return objectReader.readValue(value);
+        } catch (JsonProcessingException jsonProcessingException) {
+            throw new IllegalArgumentException(jsonProcessingException.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public long getLine() {
+        return line;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package org.ascent.interceptors;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.ascent.enums.Role;
+import org.ascent.exceptions.AdminRequiredException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdminInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpSession httpSession = request.getSession(false);
+
+        if (httpSession == null || !Boolean.TRUE.equals(httpSession.getAttribute("logged"))
+                || httpSession.getAttribute("role") != Role.ADMIN) {
+            throw new AdminRequiredException();
+        }
+
+        return true;
+    }
+}
\ No newline at end of file
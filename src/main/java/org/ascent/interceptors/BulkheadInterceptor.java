@@ -0,0 +1,60 @@
+package org.ascent.interceptors;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.ascent.audits.AuditLog;
+import org.ascent.bulkheads.Bulkhead;
+import org.ascent.enums.AuditType;
+import org.ascent.exceptions.ThrottledException;
+import org.ascent.runners.WarmupRequests;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private final Bulkhead bulkhead;
+
+    private final AuditLog auditLog;
+
+    private final String retryAfter;
+
+    private final String startAttribute;
+
+    public BulkheadInterceptor(Bulkhead bulkhead, AuditLog auditLog, Duration retryAfter) {
+        this.bulkhead = bulkhead;
+        this.auditLog = auditLog;
+        this.retryAfter = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.startAttribute = BulkheadInterceptor.class.getName() + "." + bulkhead.getName();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || WarmupRequests.isWarmup(request)) {
+            return true;
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            auditLog.record(request, AuditType.THROTTLED);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            throw new ThrottledException();
+        }
+
+        request.setAttribute(startAttribute, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(startAttribute);
+
+        if (start == null) {
+            return;
+        }
+
+        request.removeAttribute(startAttribute);
+        bulkhead.release(System.nanoTime() - (long) start, ex != null || response.getStatus() >= 500);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package org.ascent.interceptors;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.apache.catalina.connector.ResponseFacade;
+import org.ascent.properties.EarlyHintsProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.List;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class EarlyHintsInterceptor implements HandlerInterceptor {
+
+    private final EarlyHintsProperties earlyHintsProperties;
+
+    private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+
+    private volatile List<String> links;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!earlyHintsProperties.isEnabled()) {
+            return true;
+        }
+
+        for (String link : links()) {
+            response.addHeader(HttpHeaders.LINK, link);
+        }
+
+        ResponseFacade responseFacade = WebUtils.getNativeResponse(response, ResponseFacade.class);
+        if (responseFacade != null && "navigate".equals(request.getHeader("Sec-Fetch-Mode"))) {
+            responseFacade.sendEarlyHints();
+        }
+
+        return true;
+    }
+
+    private List<String> links() {
+        List<String> links = this.links;
+
+        if (links == null) {
+            links = earlyHintsProperties.getResources().stream()
+                    .map(this::link)
+                    .toList();
+            this.links = links;
+        }
+
+        return links;
+    }
+
+    private String link(String resource) {
+        String url = resourceUrlProvider.getObject().getForLookupPath(resource);
+        String destination = resource.endsWith(".css") ? "style" : "script";
+        return "<" + (url != null ? url : resource) + ">; rel=preload; as=" + destination;
+    }
+}
\ No newline at end of file
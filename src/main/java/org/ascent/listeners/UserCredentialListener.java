@@ -0,0 +1,50 @@
+package org.ascent.listeners;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.ascent.caches.CredentialCache;
+import org.ascent.entities.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+@RequiredArgsConstructor
+public class UserCredentialListener {
+
+    private final ObjectProvider<CredentialCache> credentialCacheProvider;
+
+    @PostUpdate
+    @PostRemove
+    public void invalidate(User user) {
+        CredentialCache credentialCache = credentialCacheProvider.getIfAvailable();
+
+        if (credentialCache == null) {
+            return;
+        }
+
+        String emailCanonical = user.getEmailCanonical();
+        String loadedEmailCanonical = user.getLoadedEmailCanonical();
+
+        Runnable invalidation = () -> {
+            credentialCache.invalidate(emailCanonical);
+
+            if (!Objects.equals(emailCanonical, loadedEmailCanonical)) {
+                credentialCache.invalidate(loadedEmailCanonical);
+            }
+        };
+
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package org.ascent.managers;
+
+import lombok.RequiredArgsConstructor;
+import org.ascent.directories.DirectoryPage;
+import org.ascent.directories.DirectoryRow;
+import org.ascent.entities.User;
+import org.ascent.enums.DirectoryField;
+import org.ascent.enums.Role;
+import org.ascent.properties.DirectoryProperties;
+import org.ascent.requests.DirectoryRequest;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DirectoryManager {
+
+    private final static int maxSearchLength = 255;
+
+    private final static String columns = "SELECT id, username, email, email_canonical, role, disabled, created_on, "
+            + "last_login FROM `user`";
+
+    private final static String createdOnQuery = columns
+            + " WHERE created_on IS NOT NULL ORDER BY created_on DESC, id DESC LIMIT :limit";
+
+    private final static String createdOnAfterQuery = columns
+            + " WHERE created_on <= :afterCreatedOn AND (created_on < :afterCreatedOn OR id < :afterId)"
+            + " ORDER BY created_on DESC, id DESC LIMIT :limit";
+
+    private final static String usernameQuery = columns
+            + " WHERE username LIKE :prefix ESCAPE '!' AND username > :afterKey ORDER BY username LIMIT :limit";
+
+    private final static String emailQuery = columns
+            + " WHERE email_canonical LIKE :prefix ESCAPE '!' AND email_canonical > :afterKey"
+            + " ORDER BY email_canonical LIMIT :limit";
+
+    private final static RowMapper<DirectoryRow> directoryRowMapper = (resultSet, rowNumber) -> new DirectoryRow(
+            resultSet.getLong("id"),
+            resultSet.getString("username"),
+            resultSet.getString("email"),
+            resultSet.getString("email_canonical"),
+            resultSet.getString("role") == null ? null : Role.valueOf(resultSet.getString("role")),
+            resultSet.getBoolean("disabled"),
+            toInstant(resultSet.getTimestamp("created_on")),
+            toInstant(resultSet.getTimestamp("last_login")));
+
+    private final DirectoryProperties directoryProperties;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public DirectoryPage page(DirectoryRequest directoryRequest) {
+        String search = directoryRequest.getSearch() == null ? "" : directoryRequest.getSearch().trim();
+        if (search.length() > maxSearchLength) {
+            search = search.substring(0, maxSearchLength);
+        }
+
+        DirectoryField directoryField = directoryRequest.getField() == null
+                ? DirectoryField.USERNAME : directoryRequest.getField();
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("limit", directoryProperties.getPageSize() + 1);
+
+        String query;
+        if (search.isEmpty()) {
+            boolean after = directoryRequest.getAfterCreatedOn() != null && directoryRequest.getAfterId() != null;
+            query = after ? createdOnAfterQuery : createdOnQuery;
+            parameters.addValue("afterCreatedOn", after ? Timestamp.from(directoryRequest.getAfterCreatedOn()) : null);
+            parameters.addValue("afterId", directoryRequest.getAfterId());
+        } else {
+            String prefix = directoryField == DirectoryField.EMAIL ? User.canonicalEmail(search) : search;
+            query = directoryField == DirectoryField.EMAIL ? emailQuery : usernameQuery;
+            parameters.addValue("prefix", escapeLike(prefix) + "%");
+            parameters.addValue("afterKey", directoryRequest.getAfterKey() == null ? "" : directoryRequest.getAfterKey());
+        }
+
+        List<DirectoryRow> rows = namedParameterJdbcTemplate.query(query, parameters, directoryRowMapper);
+        if (rows.size() <= directoryProperties.getPageSize()) {
+            return new DirectoryPage(rows, null);
+        }
+
+        rows = rows.subList(0, directoryProperties.getPageSize());
+        DirectoryRow last = rows.get(rows.size() - 1);
+
+        DirectoryRequest next = new DirectoryRequest();
+        next.setField(directoryField);
+        if (search.isEmpty()) {
+            next.setAfterCreatedOn(last.getCreatedOn());
+            next.setAfterId(last.getId());
+        } else {
+            next.setSearch(search);
+            next.setAfterKey(directoryField == DirectoryField.EMAIL ? last.getEmailCanonical() : last.getUsername());
+        }
+
+        return new DirectoryPage(rows, next);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
\ No newline at end of file
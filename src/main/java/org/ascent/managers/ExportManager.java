@@ -0,0 +1,160 @@
+package org.ascent.managers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.ascent.enums.Role;
+import org.ascent.exports.CsvExportWriter;
+import org.ascent.exports.ExportRow;
+import org.ascent.exports.ExportWriter;
+import org.ascent.exports.NdjsonExportWriter;
+import org.ascent.properties.ExportProperties;
+import org.ascent.requests.ExportRequest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+@Service
+@RequiredArgsConstructor
+public class ExportManager {
+
+    private final static Logger logger = Logger.getLogger(ExportManager.class.getName());
+
+    public final static MediaType csv = MediaType.parseMediaType("text/csv");
+
+    public final static MediaType ndjson = MediaType.parseMediaType("application/x-ndjson");
+
+    private final static RowMapper<ExportRow> exportRowMapper = (resultSet, rowNumber) -> new ExportRow(
+            resultSet.getLong("id"),
+            resultSet.getString("username"),
+            resultSet.getString("email"),
+            resultSet.getString("role") == null ? null : Role.valueOf(resultSet.getString("role")),
+            resultSet.getBoolean("disabled"),
+            toInstant(resultSet.getTimestamp("created_on")),
+            toInstant(resultSet.getTimestamp("last_login")));
+
+    private final ExportProperties exportProperties;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final PlatformTransactionManager platformTransactionManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    public long exportUsers(ExportRequest exportRequest, MediaType mediaType, OutputStream outputStream)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                exportProperties.getBufferSize());
+        ExportWriter exportWriter = ndjson.isCompatibleWith(mediaType)
+                ? new NdjsonExportWriter(writer, objectMapper.getFactory())
+                : new CsvExportWriter(writer);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        boolean byCreatedOn = exportRequest.getCreatedFrom() != null || exportRequest.getCreatedTo() != null;
+        String firstQuery = query(exportRequest, byCreatedOn, false);
+        String nextQuery = query(exportRequest, byCreatedOn, true);
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("role", exportRequest.getRole() == null ? null : exportRequest.getRole().name())
+                .addValue("disabled", exportRequest.getDisabled())
+                .addValue("createdFrom", toTimestamp(exportRequest.getCreatedFrom()))
+                .addValue("createdTo", toTimestamp(exportRequest.getCreatedTo()))
+                .addValue("limit", exportProperties.getPageSize());
+
+        long exported = 0;
+        long start = System.nanoTime();
+        String query = firstQuery;
+
+        for (;;) {
+            String pageQuery = query;
+            List<ExportRow> page = transactionTemplate.execute(transactionStatus ->
+                    namedParameterJdbcTemplate.query(pageQuery, parameters, exportRowMapper));
+
+            for (ExportRow exportRow : page) {
+                exportWriter.write(exportRow);
+            }
+            exportWriter.flush();
+            exported += page.size();
+
+            if (page.size() < exportProperties.getPageSize()) {
+                break;
+            }
+
+            ExportRow last = page.get(page.size() - 1);
+            parameters.addValue("lastId", last.getId());
+            parameters.addValue("lastCreatedOn", toTimestamp(last.getCreatedOn()));
+            query = nextQuery;
+        }
+
+        Counter.builder("ascent.export.users")
+                .description("Exported user rows, by format")
+                .tag("format", mediaType.getSubtype())
+                .register(meterRegistry)
+                .increment(exported);
+
+        logger.info("Export finished in " + (System.nanoTime() - start) / 1_000_000 + " ms: "
+                + exported + " users as " + mediaType);
+
+        return exported;
+    }
+
+    private static String query(ExportRequest exportRequest, boolean byCreatedOn, boolean after) {
+        List<String> conditions = new ArrayList<>();
+
+        if (exportRequest.getRole() != null) {
+            conditions.add("role = :role");
+        }
+
+        if (exportRequest.getDisabled() != null) {
+            conditions.add("disabled = :disabled");
+        }
+
+        if (exportRequest.getCreatedFrom() != null) {
+            conditions.add("created_on >= :createdFrom");
+        }
+
+        if (exportRequest.getCreatedTo() != null) {
+            conditions.add("created_on < :createdTo");
+        }
+
+        if (after) {
+            conditions.add(byCreatedOn
+                    ? "created_on >= :lastCreatedOn AND (created_on > :lastCreatedOn OR id > :lastId)"
+                    : "id > :lastId");
+        }
+
+        return "SELECT id, username, email, role, disabled, created_on, last_login FROM `user`"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + (byCreatedOn ? " ORDER BY created_on, id" : " ORDER BY id")
+                + " LIMIT :limit";
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+}
\ No newline at end of file
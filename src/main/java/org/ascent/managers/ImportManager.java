@@ -0,0 +1,275 @@
+package org.ascent.managers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.ascent.entities.User;
+import org.ascent.enums.ImportOutcome;
+import org.ascent.enums.Role;
+import org.ascent.exceptions.ImportInProgressException;
+import org.ascent.generators.SnowflakeIdGenerator;
+import org.ascent.imports.CsvImportReader;
+import org.ascent.imports.FingerprintSet;
+import org.ascent.imports.ImportReader;
+import org.ascent.imports.ImportReport;
+import org.ascent.imports.NdjsonImportReader;
+import org.ascent.properties.ImportProperties;
+import org.ascent.requests.ImportRequest;
+import org.ascent.validators.CredentialValidator;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+public class ImportManager {
+
+    private final static Logger logger = Logger.getLogger(ImportManager.class.getName());
+
+    private final static MediaType ndjson = MediaType.parseMediaType("application/x-ndjson");
+
+    private final static Pattern bcryptHash = Pattern.compile("\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}");
+
+    private final static String existingQuery = "SELECT username, email_canonical FROM `user` "
+            + "WHERE username IN (:usernames) "
+            + "UNION ALL SELECT username, email_canonical FROM `user` WHERE email_canonical IN (:emails)";
+
+    private final static String insertQuery = "INSERT IGNORE INTO `user` "
+            + "(id, username, email, email_canonical, password, role, disabled, created_on) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final static String insertedQuery = "SELECT id FROM `user` WHERE id IN (:ids)";
+
+    private final ImportProperties importProperties;
+
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+
+    private final AtomicBoolean importing = new AtomicBoolean();
+
+    public ImportReport importUsers(MediaType mediaType, InputStream inputStream)
+            throws IOException, InterruptedException, ExecutionException {
+        if (!importing.compareAndSet(false, true)) {
+            throw new ImportInProgressException();
+        }
+
+        try {
+            return runImport(mediaType, inputStream);
+        } finally {
+            importing.set(false);
+        }
+    }
+
+    private ImportReport runImport(MediaType mediaType, InputStream inputStream)
+            throws IOException, InterruptedException, ExecutionException {
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        ImportReader importReader = ndjson.isCompatibleWith(mediaType)
+                ? new NdjsonImportReader(bufferedReader, objectMapper.reader())
+                : new CsvImportReader(bufferedReader);
+
+        ImportReport importReport = new ImportReport(importProperties.getMaxRejects());
+        FingerprintSet usernames = new FingerprintSet();
+        FingerprintSet emails = new FingerprintSet();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(importProperties.getParallelism());
+        Deque<Future<List<ImportRow>>> pending = new ArrayDeque<>();
+        List<ImportRow> chunk = new ArrayList<>(importProperties.getBatchSize());
+        long start = System.nanoTime();
+
+        try {
+            for (;;) {
+                ImportRequest importRequest;
+                try {
+                    importRequest = importReader.next();
+                } catch (IllegalArgumentException illegalArgumentException) {
+                    importReport.read();
+                    importReport.reject(importReader.getLine(), ImportOutcome.MALFORMED);
+                    continue;
+                }
+
+                if (importRequest == null) {
+                    break;
+                }
+
+                importReport.read();
+                long line = importReader.getLine();
+
+                ImportOutcome invalid = validate(importRequest);
+                if (invalid != null) {
+                    importReport.reject(line, invalid);
+                    continue;
+                }
+
+                String username = importRequest.getUsername().toLowerCase(Locale.ROOT);
+                String email = User.canonicalEmail(importRequest.getEmail());
+                if (usernames.contains(username) || emails.contains(email)) {
+                    importReport.reject(line, ImportOutcome.DUPLICATE);
+                    continue;
+                }
+                usernames.add(username);
+                emails.add(email);
+
+                chunk.add(new ImportRow(line, importRequest.getUsername(), importRequest.getEmail(), email,
+                        importRequest.getPassword(), importRequest.getPasswordHash()));
+
+                if (chunk.size() == importProperties.getBatchSize()) {
+                    List<ImportRow> rows = chunk;
+                    pending.addLast(executorService.submit(() -> hash(rows)));
+                    chunk = new ArrayList<>(importProperties.getBatchSize());
+
+                    if (pending.size() > importProperties.getParallelism()) {
+                        write(pending.removeFirst().get(), importReport);
+                    }
+                }
+
+                if (importReport.getRead() % importProperties.getProgressInterval() == 0) {
+                    logger.info("Import progress: " + importReport.getRead() + " read, "
+                            + importReport.getImported() + " imported");
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                List<ImportRow> rows = chunk;
+                pending.addLast(executorService.submit(() -> hash(rows)));
+            }
+
+            while (!pending.isEmpty()) {
+                write(pending.removeFirst().get(), importReport);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        importReport.getCounts().forEach((importOutcome, count) -> Counter.builder("ascent.import.users")
+                .description("Imported user rows, by outcome")
+                .tag("outcome", importOutcome.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment(count));
+
+        logger.info("Import finished in " + (System.nanoTime() - start) / 1_000_000 + " ms: "
+                + importReport.getRead() + " read, " + importReport.getImported() + " imported, "
+                + importReport.getRejected() + " rejected");
+
+        return importReport;
+    }
+
+    private static ImportOutcome validate(ImportRequest importRequest) {
+        if (!CredentialValidator.isValidUsername(importRequest.getUsername())) {
+            return ImportOutcome.INVALID_USERNAME;
+        }
+
+        if (!CredentialValidator.isValidEmail(importRequest.getEmail())) {
+            return ImportOutcome.INVALID_EMAIL;
+        }
+
+        if (importRequest.getPasswordHash() != null) {
+            return bcryptHash.matcher(importRequest.getPasswordHash()).matches()
+                    ? null : ImportOutcome.INVALID_PASSWORD;
+        }
+
+        return CredentialValidator.isValidPassword(importRequest.getPassword()) ? null : ImportOutcome.INVALID_PASSWORD;
+    }
+
+    private List<ImportRow> hash(List<ImportRow> rows) {
+        List<ImportRow> hashed = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            hashed.add(row.passwordHash() != null ? row : new ImportRow(row.line(), row.username(), row.email(),
+                    row.emailCanonical(), null, bCryptPasswordEncoder.encode(row.password())));
+        }
+        return hashed;
+    }
+
+    private void write(List<ImportRow> rows, ImportReport importReport) {
+        Set<String> existingUsernames = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("usernames", rows.stream().map(ImportRow::username).toList())
+                .addValue("emails", rows.stream().map(ImportRow::emailCanonical).toList());
+        namedParameterJdbcTemplate.query(existingQuery, parameters, resultSet -> {
+            existingUsernames.add(resultSet.getString(1).toLowerCase(Locale.ROOT));
+            existingEmails.add(resultSet.getString(2));
+        });
+
+        Timestamp createdOn = Timestamp.from(Instant.now());
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        List<Long> ids = new ArrayList<>(rows.size());
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (existingUsernames.contains(row.username().toLowerCase(Locale.ROOT))
+                    || existingEmails.contains(row.emailCanonical())) {
+                importReport.reject(row.line(), ImportOutcome.EXISTING);
+                continue;
+            }
+
+            long id = snowflakeIdGenerator.nextId();
+            candidates.add(row);
+            ids.add(id);
+            batch.add(new Object[]{id, row.username(), row.email(), row.emailCanonical(), row.passwordHash(),
+                    Role.USER.name(), false, createdOn});
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<Long> inserted = transactionTemplate.execute(transactionStatus -> {
+            jdbcTemplate.batchUpdate(insertQuery, batch);
+            return new HashSet<>(namedParameterJdbcTemplate.queryForList(insertedQuery,
+                    new MapSqlParameterSource("ids", ids), Long.class));
+        });
+
+        long imported = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            if (inserted.contains(ids.get(i))) {
+                imported++;
+            } else {
+                importReport.reject(candidates.get(i).line(), ImportOutcome.EXISTING);
+            }
+        }
+
+        importReport.imported(imported);
+    }
+
+    private record ImportRow(long line, String username, String email, String emailCanonical, String password,
+                             String passwordHash) {
+    }
+}
\ No newline at end of file
@@ -3,37 +3,43 @@ package org.ascent.managers;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.ascent.caches.CredentialCache;
+import org.ascent.caches.UserCredentials;
 import org.ascent.entities.User;
+import org.ascent.enums.LoginOutcome;
+import org.ascent.events.LoginEventWriter;
 import org.ascent.exceptions.InvalidCredentialsException;
 import org.ascent.exceptions.UserDisabledException;
-import org.ascent.repositories.UserRepository;
 import org.ascent.requests.LoginRequest;
+import org.ascent.runners.WarmupRequests;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.Instant;
 
 @Service
 @RequiredArgsConstructor
 public class LoginManager {
 
-    private final UserRepository userRepository;
+    private final CredentialCache credentialCache;
+
+    private final LoginEventWriter loginEventWriter;
 
-    @Transactional
     public void login(HttpServletRequest httpServletRequest, LoginRequest loginRequest) {
-        User user = userRepository.findByEmail(loginRequest.getEmail());
+        String emailCanonical = User.canonicalEmail(loginRequest.getEmail());
+        UserCredentials userCredentials = credentialCache.get(emailCanonical);
 
-        if (user == null) {
+        if (userCredentials == null) {
+            record(httpServletRequest, null, emailCanonical, LoginOutcome.INVALID_CREDENTIALS);
             throw new InvalidCredentialsException();
         }
 
-        if (user.isDisabled()) {
+        if (userCredentials.isDisabled()) {
+            record(httpServletRequest, userCredentials.getId(), emailCanonical, LoginOutcome.DISABLED);
             throw new UserDisabledException();
         }
 
         BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
-        if (!bCryptPasswordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        if (!bCryptPasswordEncoder.matches(loginRequest.getPassword(), userCredentials.getPassword())) {
+            record(httpServletRequest, userCredentials.getId(), emailCanonical, LoginOutcome.INVALID_CREDENTIALS);
             throw new InvalidCredentialsException();
         }
 
@@ -47,10 +53,16 @@ public class LoginManager {
 
         httpSession.setMaxInactiveInterval(600);
         httpSession.setAttribute("logged", true);
-        httpSession.setAttribute("username", user.getUsername());
-        httpSession.setAttribute("role", user.getRole());
+        httpSession.setAttribute("username", userCredentials.getUsername());
+        httpSession.setAttribute("role", userCredentials.getRole());
 
-        user.setLastLogin(Instant.now());
-        userRepository.save(user);
+        record(httpServletRequest, userCredentials.getId(), emailCanonical, LoginOutcome.SUCCESS);
+    }
+
+    private void record(HttpServletRequest httpServletRequest, Long userId, String emailCanonical,
+                        LoginOutcome loginOutcome) {
+        if (!WarmupRequests.isWarmup(httpServletRequest)) {
+            loginEventWriter.record(userId, emailCanonical, httpServletRequest.getRemoteAddr(), loginOutcome);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package org.ascent.managers;
+
+import org.ascent.caches.UserCredentials;
+import org.ascent.entities.User;
+import org.ascent.enums.LoginOutcome;
+import org.ascent.events.LoginEventWriter;
+import org.ascent.exceptions.InvalidCredentialsException;
+import org.ascent.exceptions.UserDisabledException;
+import org.ascent.repositories.ReactiveUserRepository;
+import org.ascent.requests.LoginRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.WebSession;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveLoginManager {
+
+    private final ReactiveUserRepository reactiveUserRepository;
+
+    private final LoginEventWriter loginEventWriter;
+
+    private final Scheduler hashingScheduler;
+
+    public ReactiveLoginManager(ReactiveUserRepository reactiveUserRepository, LoginEventWriter loginEventWriter,
+                                @Qualifier("hashingScheduler") Scheduler hashingScheduler) {
+        this.reactiveUserRepository = reactiveUserRepository;
+        this.loginEventWriter = loginEventWriter;
+        this.hashingScheduler = hashingScheduler;
+    }
+
+    public Mono<Void> login(WebSession webSession, LoginRequest loginRequest, String address, boolean recorded) {
+        String emailCanonical = User.canonicalEmail(loginRequest.getEmail());
+
+        return reactiveUserRepository.findCredentialsByEmailCanonical(emailCanonical)
+                .switchIfEmpty(Mono.defer(() -> {
+                    record(recorded, null, emailCanonical, address, LoginOutcome.INVALID_CREDENTIALS);
+                    return Mono.error(new InvalidCredentialsException());
+                }))
+                .flatMap(userCredentials -> {
+                    if (userCredentials.isDisabled()) {
+                        record(recorded, userCredentials.getId(), emailCanonical, address,
+                                LoginOutcome.DISABLED);
+                        return Mono.error(new UserDisabledException());
+                    }
+
+                    return Mono.fromCallable(() -> new BCryptPasswordEncoder()
+                                    .matches(loginRequest.getPassword(), userCredentials.getPassword()))
+                            .subscribeOn(hashingScheduler)
+                            .flatMap(matches -> {
+                                if (!matches) {
+                                    record(recorded, userCredentials.getId(), emailCanonical, address,
+                                            LoginOutcome.INVALID_CREDENTIALS);
+                                    return Mono.error(new InvalidCredentialsException());
+                                }
+
+                                return startSession(webSession, userCredentials)
+                                        .doOnSuccess(ignored -> record(recorded, userCredentials.getId(),
+                                                emailCanonical, address, LoginOutcome.SUCCESS));
+                            });
+                });
+    }
+
+    private static Mono<Void> startSession(WebSession webSession, UserCredentials userCredentials) {
+        webSession.getAttributes().clear();
+
+        return webSession.changeSessionId().then(Mono.fromRunnable(() -> {
+            webSession.setMaxIdleTime(Duration.ofSeconds(600));
+            webSession.getAttributes().put("logged", true);
+            webSession.getAttributes().put("username", userCredentials.getUsername());
+            webSession.getAttributes().put("role", userCredentials.getRole());
+        }));
+    }
+
+    private void record(boolean recorded, Long userId, String emailCanonical, String address,
+                        LoginOutcome loginOutcome) {
+        if (recorded) {
+            loginEventWriter.record(userId, emailCanonical, address, loginOutcome);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package org.ascent.managers;
+
+import org.ascent.datasources.ReadYourWritesRegistry;
+import org.ascent.entities.User;
+import org.ascent.enums.Role;
+import org.ascent.exceptions.EmailAlreadyInUseException;
+import org.ascent.exceptions.UsernameAlreadyInUseException;
+import org.ascent.generators.SnowflakeIdGenerator;
+import org.ascent.repositories.ReactiveUserRepository;
+import org.ascent.requests.RegisterRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Instant;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRegisterManager {
+
+    private final ReactiveUserRepository reactiveUserRepository;
+
+    private final ReadYourWritesRegistry readYourWritesRegistry;
+
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    private final Scheduler hashingScheduler;
+
+    public ReactiveRegisterManager(ReactiveUserRepository reactiveUserRepository,
+                                   ReadYourWritesRegistry readYourWritesRegistry,
+                                   SnowflakeIdGenerator snowflakeIdGenerator,
+                                   @Qualifier("hashingScheduler") Scheduler hashingScheduler) {
+        this.reactiveUserRepository = reactiveUserRepository;
+        this.readYourWritesRegistry = readYourWritesRegistry;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.hashingScheduler = hashingScheduler;
+    }
+
+    public Mono<Void> register(RegisterRequest registerRequest) {
+        String emailCanonical = User.canonicalEmail(registerRequest.getEmail());
+
+        return reactiveUserRepository.existsByUsername(registerRequest.getUsername())
+                .flatMap(usernameInUse -> usernameInUse
+                        ? Mono.error(new UsernameAlreadyInUseException())
+                        : reactiveUserRepository.existsByEmailCanonical(emailCanonical))
+                .flatMap(emailInUse -> emailInUse
+                        ? Mono.error(new EmailAlreadyInUseException())
+                        : Mono.fromCallable(() -> new BCryptPasswordEncoder().encode(registerRequest.getPassword()))
+                                .subscribeOn(hashingScheduler))
+                .flatMap(password -> {
+                    User user = new User();
+                    user.setId(snowflakeIdGenerator.nextId());
+                    user.setUsername(registerRequest.getUsername());
+                    user.setEmail(registerRequest.getEmail());
+                    user.setPassword(password);
+                    user.setRole(Role.USER);
+                    user.setCreatedOn(Instant.now());
+
+                    return reactiveUserRepository.insert(user);
+                })
+                .doOnSuccess(ignored -> readYourWritesRegistry.recordWrite(emailCanonical));
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package org.ascent.managers;
 
 import lombok.RequiredArgsConstructor;
+import org.ascent.datasources.ReadYourWritesRegistry;
 import org.ascent.entities.User;
 import org.ascent.enums.Role;
 import org.ascent.exceptions.EmailAlreadyInUseException;
@@ -19,6 +20,8 @@ public class RegisterManager {
 
     private final UserRepository userRepository;
 
+    private final ReadYourWritesRegistry readYourWritesRegistry;
+
     @Transactional
     public void register(RegisterRequest registerRequest) {
         if (userRepository.existsByUsername(registerRequest.getUsername())) {
@@ -39,5 +42,7 @@ public class RegisterManager {
         user.setRole(Role.USER);
         user.setCreatedOn(Instant.now());
         userRepository.save(user);
+
+        readYourWritesRegistry.recordWrite(User.canonicalEmail(user.getEmail()));
     }
 }
\ No newline at end of file
@@ -4,8 +4,12 @@ import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.ascent.enums.Role;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.WebSession;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class ViewManager {
@@ -23,4 +27,18 @@ public class ViewManager {
             modelAndView.addObject("logged", false);
         }
     }
+
+    public Map<String, Object> navbar(WebSession webSession) {
+        Map<String, Object> model = new HashMap<>();
+
+        if (Boolean.TRUE.equals(webSession.getAttribute("logged"))) {
+            model.put("logged", true);
+            model.put("username", webSession.getAttribute("username"));
+            model.put("role", webSession.getAttribute("role"));
+        } else {
+            model.put("logged", false);
+        }
+
+        return model;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package org.ascent.migrations;
+
+import org.ascent.entities.User;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+public class UserEmailCanonicalBackfill {
+
+    private final static Logger logger = Logger.getLogger(UserEmailCanonicalBackfill.class.getName());
+
+    private final static int chunkSize = 1000;
+
+    private final static String selectQuery = "SELECT id, email FROM `user` "
+            + "WHERE email_canonical IS NULL AND email IS NOT NULL AND id > ? ORDER BY id LIMIT ?";
+
+    private final static String updateQuery = "UPDATE `user` SET email_canonical = ? "
+            + "WHERE id = ? AND email_canonical IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Set<Long> conflicts = ConcurrentHashMap.newKeySet();
+
+    public UserEmailCanonicalBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void maintain() {
+        try {
+            Integer rows = jdbcTemplate.execute(
+                    (ConnectionCallback<Integer>) connection -> backfill(connection, conflicts));
+
+            if (rows != null && rows > 0) {
+                logger.info("Backfilled canonical email of " + rows + " users written without one");
+            }
+        } catch (DataAccessException dataAccessException) {
+            logger.warning("Canonical email backfill failed: " + dataAccessException.getMessage());
+        }
+    }
+
+    public static int backfill(Connection connection) throws SQLException {
+        return backfill(connection, new HashSet<>());
+    }
+
+    private static int backfill(Connection connection, Set<Long> conflicts) throws SQLException {
+        int total = 0;
+
+        try (PreparedStatement select = connection.prepareStatement(selectQuery);
+             PreparedStatement update = connection.prepareStatement(updateQuery)) {
+            long lastId = 0;
+            int rows;
+
+            do {
+                rows = 0;
+                Map<Long, String> chunk = new LinkedHashMap<>();
+                select.setLong(1, lastId);
+                select.setInt(2, chunkSize);
+
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastId = resultSet.getLong(1);
+                        rows++;
+
+                        if (!conflicts.contains(lastId)) {
+                            chunk.put(lastId, User.canonicalEmail(resultSet.getString(2)));
+                        }
+                    }
+                }
+
+                total += update(connection, update, chunk, conflicts);
+            } while (rows == chunkSize);
+        }
+
+        return total;
+    }
+
+    private static int update(Connection connection, PreparedStatement update, Map<Long, String> chunk,
+                              Set<Long> conflicts) throws SQLException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            for (Map.Entry<Long, String> row : chunk.entrySet()) {
+                update.setString(1, row.getValue());
+                update.setLong(2, row.getKey());
+                update.addBatch();
+            }
+
+            update.executeBatch();
+            commit(connection);
+            return chunk.size();
+        } catch (BatchUpdateException batchUpdateException) {
+            update.clearBatch();
+            rollback(connection);
+        }
+
+        int updated = 0;
+
+        for (Map.Entry<Long, String> row : chunk.entrySet()) {
+            update.setString(1, row.getValue());
+            update.setLong(2, row.getKey());
+
+            try {
+                updated += update.executeUpdate();
+            } catch (SQLIntegrityConstraintViolationException sqlIntegrityConstraintViolationException) {
+                conflicts.add(row.getKey());
+                logger.warning("Canonical email of user " + row.getKey()
+                        + " was not backfilled because it already belongs to another user");
+            }
+        }
+
+        commit(connection);
+        return updated;
+    }
+
+    private static void commit(Connection connection) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+
+    private static void rollback(Connection connection) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            connection.rollback();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package org.ascent.migrations;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class V4__BackfillUserEmailCanonical extends BaseJavaMigration {
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try {
+            UserEmailCanonicalBackfill.backfill(connection);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        List<String> duplicates = duplicates(connection);
+        if (!duplicates.isEmpty()) {
+            throw new FlywayException("Emails differing only by case must be merged before the canonical email "
+                    + "index can be created: " + duplicates);
+        }
+    }
+
+    private List<String> duplicates(Connection connection) throws SQLException {
+        List<String> duplicates = new ArrayList<>();
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT email_canonical FROM `user` WHERE email_canonical IS NOT NULL "
+                        + "GROUP BY email_canonical HAVING COUNT(*) > 1 LIMIT 10");
+             ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                duplicates.add(resultSet.getString(1));
+            }
+        }
+
+        return duplicates;
+    }
+}
\ No newline at end of file
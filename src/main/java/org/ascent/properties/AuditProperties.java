@@ -0,0 +1,27 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    private Path directory = Path.of("audit");
+
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    private int maxSegments = 16;
+
+    private int ringCapacity = 16384;
+
+    private Duration flushInterval = Duration.ofSeconds(1);
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.bulkheads")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    private double backoffRatio = 0.9;
+
+    private double latencyTolerance = 2.0;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        private List<String> paths = new ArrayList<>();
+
+        private int initialLimit = 20;
+
+        private int minLimit = 1;
+
+        private int maxLimit = 200;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.credential-cache")
+public class CredentialCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maximumSize = 100000;
+
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    private Duration refreshAfterWrite = Duration.ofMinutes(5);
+
+    private final Redis redis = new Redis();
+
+    @Getter
+    @Setter
+    public static class Redis {
+
+        private boolean enabled = false;
+
+        private Duration ttl = Duration.ofMinutes(10);
+
+        private String keyPrefix = "ascent:credentials:";
+
+        private String channel = "ascent:credentials:invalidate";
+    }
+}
\ No newline at end of file
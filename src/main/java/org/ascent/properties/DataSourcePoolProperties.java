@@ -0,0 +1,38 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.datasource-pool")
+public class DataSourcePoolProperties {
+
+    private Duration leakDetectionThreshold = Duration.ofSeconds(10);
+
+    private Duration longHoldThreshold = Duration.ZERO;
+
+    private double callerSampleRate = 0.01;
+
+    private final Adaptive adaptive = new Adaptive();
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+
+        private boolean enabled = false;
+
+        private int minimumPoolSize = 5;
+
+        private int maximumPoolSize = 30;
+
+        private int step = 2;
+
+        private Duration targetAcquireTime = Duration.ofMillis(5);
+
+        private Duration interval = Duration.ofSeconds(5);
+    }
+}
\ No newline at end of file
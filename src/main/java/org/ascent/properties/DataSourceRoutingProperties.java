@@ -0,0 +1,33 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.datasource-routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    private String lagColumn = "Seconds_Behind_Source";
+
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.directory")
+public class DirectoryProperties {
+
+    private int pageSize = 50;
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.early-hints")
+public class EarlyHintsProperties {
+
+    private boolean enabled = true;
+
+    private List<String> resources = new ArrayList<>();
+}
\ No newline at end of file
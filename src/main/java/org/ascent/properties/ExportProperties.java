@@ -0,0 +1,15 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.export")
+public class ExportProperties {
+
+    private int pageSize = 1000;
+
+    private int bufferSize = 65536;
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.ids")
+public class IdProperties {
+
+    private Integer nodeId;
+
+    private Instant epoch = Instant.parse("2024-01-01T00:00:00Z");
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.import")
+public class ImportProperties {
+
+    private int batchSize = 1000;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private int maxRejects = 100;
+
+    private int progressInterval = 100000;
+}
\ No newline at end of file
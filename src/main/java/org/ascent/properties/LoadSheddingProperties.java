@@ -0,0 +1,31 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    private Duration target = Duration.ofMillis(50);
+
+    private Duration interval = Duration.ofSeconds(1);
+
+    private boolean executorTimestamps = true;
+
+    private String requestStartHeader = "";
+
+    private List<String> trustedProxies = new ArrayList<>();
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator/**"));
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.login-events")
+public class LoginEventProperties {
+
+    private int queueCapacity = 10000;
+
+    private int batchSize = 500;
+
+    private Duration linger = Duration.ofMillis(200);
+
+    private final Partitions partitions = new Partitions();
+
+    @Getter
+    @Setter
+    public static class Partitions {
+
+        private boolean enabled = true;
+
+        private int retentionMonths = 12;
+
+        private int precreateMonths = 3;
+
+        private Duration maintenanceInterval = Duration.ofHours(24);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.ascent.enums.MigrationMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.migrations")
+public class MigrationProperties {
+
+    private MigrationMode mode = MigrationMode.VALIDATE;
+
+    private Duration backfillInterval = Duration.ZERO;
+}
\ No newline at end of file
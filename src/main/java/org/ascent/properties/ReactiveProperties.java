@@ -0,0 +1,23 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.reactive")
+public class ReactiveProperties {
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int maxPoolSize = 10;
+
+    private int hashingThreads = Runtime.getRuntime().availableProcessors();
+
+    private int hashingQueueCapacity = 1000;
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package org.ascent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ascent.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = false;
+
+    private int iterations = 20;
+
+    private int hashIterations = 10;
+
+    private String username = "warmup";
+
+    private String email = "warmup@warmup.invalid";
+
+    private String password = "warmup-password";
+
+    private Duration requestTimeout = Duration.ofSeconds(5);
+
+    private Duration timeout = Duration.ofSeconds(60);
+}
\ No newline at end of file
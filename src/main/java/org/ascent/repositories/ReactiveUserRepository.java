@@ -0,0 +1,105 @@
+package org.ascent.repositories;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.ascent.caches.UserCredentials;
+import org.ascent.entities.User;
+import org.ascent.enums.Role;
+import org.ascent.properties.ReactiveProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserRepository implements DisposableBean {
+
+    private final static String credentialsQuery = "SELECT id, username, email_canonical, password, disabled, role "
+            + "FROM `user` WHERE email_canonical = :emailCanonical";
+
+    private final static String usernameQuery = "SELECT 1 FROM `user` WHERE username = :username LIMIT 1";
+
+    private final static String emailCanonicalQuery = "SELECT 1 FROM `user` WHERE email_canonical = :emailCanonical "
+            + "LIMIT 1";
+
+    private final static String insertQuery = "INSERT INTO `user` (id, username, email, email_canonical, password, "
+            + "disabled, role, created_on) VALUES (:id, :username, :email, :emailCanonical, :password, :disabled, "
+            + ":role, :createdOn)";
+
+    private final ConnectionPool connectionPool;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepository(ReactiveProperties reactiveProperties) {
+        ConnectionFactoryOptions connectionFactoryOptions = ConnectionFactoryOptions.parse(reactiveProperties.getUrl())
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, reactiveProperties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, reactiveProperties.getPassword())
+                .build();
+
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(connectionFactoryOptions))
+                .name("reactive")
+                .initialSize(0)
+                .maxSize(reactiveProperties.getMaxPoolSize())
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    public Mono<UserCredentials> findCredentialsByEmailCanonical(String emailCanonical) {
+        return databaseClient.sql(credentialsQuery)
+                .bind("emailCanonical", emailCanonical)
+                .map(ReactiveUserRepository::userCredentials)
+                .one();
+    }
+
+    public Mono<Boolean> existsByUsername(String username) {
+        return databaseClient.sql(usernameQuery)
+                .bind("username", username)
+                .map(row -> true)
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<Boolean> existsByEmailCanonical(String emailCanonical) {
+        return databaseClient.sql(emailCanonicalQuery)
+                .bind("emailCanonical", emailCanonical)
+                .map(row -> true)
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<Void> insert(User user) {
+        return databaseClient.sql(insertQuery)
+                .bind("id", user.getId())
+                .bind("username", user.getUsername())
+                .bind("email", user.getEmail())
+                .bind("emailCanonical", User.canonicalEmail(user.getEmail()))
+                .bind("password", user.getPassword())
+                .bind("disabled", user.isDisabled())
+                .bind("role", user.getRole().name())
+                .bind("createdOn", LocalDateTime.ofInstant(user.getCreatedOn(), ZoneId.systemDefault()))
+                .then();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static UserCredentials userCredentials(Readable row) {
+        String role = row.get("role", String.class);
+
+        return new UserCredentials(row.get("id", Long.class), row.get("username", String.class),
+                row.get("email_canonical", String.class), row.get("password", String.class),
+                Boolean.TRUE.equals(row.get("disabled", Boolean.class)), role == null ? null : Role.valueOf(role));
+    }
+}
\ No newline at end of file
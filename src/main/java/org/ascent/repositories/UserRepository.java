@@ -2,12 +2,22 @@ package org.ascent.repositories;
 
 import org.ascent.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByUsername(String username);
 
-    boolean existsByEmail(String email);
+    boolean existsByEmailCanonical(String emailCanonical);
 
-    User findByEmail(String email);
+    User findByEmailCanonical(String emailCanonical);
+
+    default boolean existsByEmail(String email) {
+        return existsByEmailCanonical(User.canonicalEmail(email));
+    }
+
+    default User findByEmail(String email) {
+        return findByEmailCanonical(User.canonicalEmail(email));
+    }
 }
\ No newline at end of file
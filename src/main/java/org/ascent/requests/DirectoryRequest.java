@@ -0,0 +1,24 @@
+package org.ascent.requests;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.ascent.enums.DirectoryField;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class DirectoryRequest {
+
+    private String search;
+
+    private DirectoryField field = DirectoryField.USERNAME;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant afterCreatedOn;
+
+    private Long afterId;
+
+    private String afterKey;
+}
\ No newline at end of file
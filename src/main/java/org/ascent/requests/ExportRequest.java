@@ -0,0 +1,23 @@
+package org.ascent.requests;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.ascent.enums.Role;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class ExportRequest {
+
+    private Role role;
+
+    private Boolean disabled;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant createdTo;
+}
\ No newline at end of file
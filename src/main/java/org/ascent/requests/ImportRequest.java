@@ -0,0 +1,19 @@
+package org.ascent.requests;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ImportRequest {
+
+    private String username;
+
+    private String email;
+
+    private String password;
+
+    private String passwordHash;
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package org.ascent.resolvers;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.reactive.resource.AbstractResourceResolver;
+import org.springframework.web.reactive.resource.ResourceResolverChain;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public class ReactiveWebJarManifestResourceResolver extends AbstractResourceResolver {
+
+    private final WebJarManifestResourceResolver webJarManifestResourceResolver;
+
+    public ReactiveWebJarManifestResourceResolver(String manifestLocation) {
+        this.webJarManifestResourceResolver = new WebJarManifestResourceResolver(manifestLocation);
+    }
+
+    @Override
+    protected Mono<Resource> resolveResourceInternal(ServerWebExchange exchange, String requestPath,
+                                                     List<? extends Resource> locations, ResourceResolverChain chain) {
+        return chain.resolveResource(exchange, webJarManifestResourceResolver.versionedPath(requestPath), locations);
+    }
+
+    @Override
+    protected Mono<String> resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                                  ResourceResolverChain chain) {
+        return chain.resolveUrlPath(webJarManifestResourceResolver.versionedPath(resourceUrlPath), locations);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package org.ascent.resolvers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+public class WebJarManifestResourceResolver extends AbstractResourceResolver {
+
+    private final Map<String, String> versions = new HashMap<>();
+
+    public WebJarManifestResourceResolver(String manifestLocation) {
+        try {
+            Properties manifest = PropertiesLoaderUtils.loadProperties(new ClassPathResource(manifestLocation));
+            manifest.forEach((webJar, version) -> versions.put((String) webJar, (String) version));
+        } catch (IOException e) {
+            throw new UncheckedIOException("WebJar manifest " + manifestLocation + " could not be loaded", e);
+        }
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        return chain.resolveResource(request, versionedPath(requestPath), locations);
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(versionedPath(resourceUrlPath), locations);
+    }
+
+    public String versionedPath(String path) {
+        int startOffset = path.startsWith("/") ? 1 : 0;
+        int endOffset = path.indexOf('/', startOffset);
+
+        if (endOffset == -1) {
+            return path;
+        }
+
+        String version = versions.get(path.substring(startOffset, endOffset));
+
+        if (version == null || path.startsWith(version + "/", endOffset + 1)) {
+            return path;
+        }
+
+        return path.substring(0, endOffset + 1) + version + path.substring(endOffset);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package org.ascent.runners;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+public class WarmupRequests {
+
+    public final static String header = "X-Ascent-Warmup";
+
+    private final static String token = UUID.randomUUID().toString();
+
+    public static String token() {
+        return token;
+    }
+
+    public static boolean isWarmup(String value) {
+        return value != null && MessageDigest.isEqual(token.getBytes(StandardCharsets.US_ASCII),
+                value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static boolean isWarmup(HttpServletRequest httpServletRequest) {
+        return isWarmup(httpServletRequest.getHeader(header));
+    }
+}
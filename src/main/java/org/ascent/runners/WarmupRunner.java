@@ -0,0 +1,164 @@
+package org.ascent.runners;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.ascent.properties.WarmupProperties;
+import org.ascent.repositories.UserRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+@Component
+@RequiredArgsConstructor
+public class WarmupRunner implements ApplicationRunner {
+
+    private final static Logger logger = Logger.getLogger(WarmupRunner.class.getName());
+
+    private final WarmupProperties warmupProperties;
+
+    private final UserRepository userRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments applicationArguments) {
+        if (!warmupProperties.isEnabled()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + warmupProperties.getTimeout().toNanos();
+
+        warmup("hashing", () -> warmupHashing(deadline));
+        warmup("queries", () -> warmupQueries(deadline));
+        warmup("requests", () -> warmupRequests(deadline));
+
+        long duration = System.nanoTime() - start;
+
+        Timer.builder("ascent.warmup")
+                .description("Time spent warming up before reporting readiness")
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+
+        logger.info("Warm-up finished in " + TimeUnit.NANOSECONDS.toMillis(duration) + " ms");
+    }
+
+    private void warmup(String stage, WarmupStage warmupStage) {
+        try {
+            warmupStage.run();
+        } catch (Exception e) {
+            logger.warning("Warm-up of " + stage + " did not complete: " + e.getMessage());
+        }
+    }
+
+    private void warmupHashing(long deadline) throws TimeoutException {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+        String hash = bCryptPasswordEncoder.encode(warmupProperties.getPassword());
+
+        for (int i = 0; i < warmupProperties.getHashIterations(); i++) {
+            checkDeadline(deadline);
+            bCryptPasswordEncoder.matches(warmupProperties.getPassword(), hash);
+        }
+    }
+
+    private void warmupQueries(long deadline) throws TimeoutException {
+        for (int i = 0; i < warmupProperties.getIterations(); i++) {
+            checkDeadline(deadline);
+            userRepository.findByEmail(warmupProperties.getEmail());
+            userRepository.existsByUsername(warmupProperties.getUsername());
+            userRepository.existsByEmail(warmupProperties.getEmail());
+        }
+    }
+
+    private void warmupRequests(long deadline) throws IOException, InterruptedException, TimeoutException {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+
+        if (port == null) {
+            return;
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String base = "http://localhost:" + port;
+        String login = "{\"email\":\"" + warmupProperties.getEmail() + "\",\"password\":\"" + warmupProperties.getPassword() + "\"}";
+        String loginForm = "email=" + URLEncoder.encode(warmupProperties.getEmail(), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(warmupProperties.getPassword(), StandardCharsets.UTF_8);
+        String registerForm = "username=-&" + loginForm;
+
+        for (int i = 0; i < warmupProperties.getIterations(); i++) {
+            send(httpClient, deadline, get(base + "/"));
+            send(httpClient, deadline, htmx(base + "/navbar").GET());
+            send(httpClient, deadline, htmx(base + "/navbar/login").GET());
+            send(httpClient, deadline, htmx(base + "/navbar/register").GET());
+            send(httpClient, deadline, htmx(base + "/navbar/logout").GET());
+            send(httpClient, deadline, post(base + "/login", "application/json", login));
+            send(httpClient, deadline, post(base + "/login", "application/x-www-form-urlencoded", loginForm));
+            send(httpClient, deadline, post(base + "/login", "application/x-www-form-urlencoded", loginForm)
+                    .header("Prefer", "return=minimal"));
+            send(httpClient, deadline, post(base + "/register", "application/x-www-form-urlencoded", registerForm));
+            send(httpClient, deadline, htmx(base + "/logout").GET());
+        }
+    }
+
+    private HttpRequest.Builder get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET();
+    }
+
+    private HttpRequest.Builder htmx(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).header("HX-Request", "true");
+    }
+
+    private HttpRequest.Builder post(String uri, String contentType, String body) {
+        return htmx(uri)
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private void send(HttpClient httpClient, long deadline, HttpRequest.Builder httpRequest)
+            throws IOException, InterruptedException, TimeoutException {
+        long remaining = checkDeadline(deadline);
+        Duration timeout = Duration.ofNanos(Math.min(remaining, warmupProperties.getRequestTimeout().toNanos()));
+
+        httpClient.send(httpRequest
+                .header("Accept-Encoding", "gzip")
+                .header(WarmupRequests.header, WarmupRequests.token())
+                .timeout(timeout)
+                .build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static long checkDeadline(long deadline) throws TimeoutException {
+        long remaining = deadline - System.nanoTime();
+
+        if (remaining <= 0) {
+            throw new TimeoutException("deadline exceeded");
+        }
+
+        return remaining;
+    }
+
+    private interface WarmupStage {
+
+        void run() throws Exception;
+    }
+}
\ No newline at end of file
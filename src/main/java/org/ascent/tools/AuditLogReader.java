@@ -0,0 +1,89 @@
+package org.ascent.tools;
+
+import org.ascent.audits.AuditRecord;
+import org.ascent.audits.AuditSegment;
+import org.ascent.enums.AuditType;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public class AuditLogReader {
+
+    private final static String usage = "Usage: AuditLogReader <file-or-directory>... [--type=TYPE[,TYPE]] "
+            + "[--address=ADDRESS] [--subject=PREFIX] [--from=INSTANT] [--to=INSTANT]";
+
+    public static void main(String[] args) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        Predicate<AuditRecord> filter = auditRecord -> true;
+
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                paths.add(Path.of(arg));
+                continue;
+            }
+
+            String[] option = arg.substring(2).split("=", 2);
+            if (option.length != 2) {
+                System.err.println(usage);
+                System.exit(2);
+            }
+
+            filter = filter.and(filter(option[0], option[1]));
+        }
+
+        if (paths.isEmpty()) {
+            System.err.println(usage);
+            System.exit(2);
+        }
+
+        print(paths, filter, System.out);
+    }
+
+    public static Predicate<AuditRecord> filter(String name, String value) {
+        return switch (name) {
+            case "type" -> {
+                var types = Arrays.stream(value.split(",")).map(AuditType::valueOf).collect(Collectors.toSet());
+                yield auditRecord -> types.contains(auditRecord.getType());
+            }
+            case "address" -> auditRecord -> value.equals(auditRecord.getAddress());
+            case "subject" -> auditRecord -> auditRecord.getSubject() != null
+                    && auditRecord.getSubject().startsWith(value);
+            case "from" -> {
+                Instant from = Instant.parse(value);
+                yield auditRecord -> !auditRecord.getOccurredOn().isBefore(from);
+            }
+            case "to" -> {
+                Instant to = Instant.parse(value);
+                yield auditRecord -> auditRecord.getOccurredOn().isBefore(to);
+            }
+            default -> throw new IllegalArgumentException("Unknown option --" + name + "\n" + usage);
+        };
+    }
+
+    public static void print(List<Path> paths, Predicate<AuditRecord> filter, PrintStream printStream)
+            throws IOException {
+        for (Path path : paths) {
+            for (Path segment : Files.isDirectory(path) ? AuditSegment.list(path) : List.of(path)) {
+                for (AuditRecord auditRecord : AuditSegment.read(segment)) {
+                    if (filter.test(auditRecord)) {
+                        printStream.println(auditRecord.getOccurredOn() + "\t" + auditRecord.getSequence() + "\t"
+                                + auditRecord.getType() + "\t" + value(auditRecord.getAddress()) + "\t"
+                                + value(auditRecord.getSubject()));
+                    }
+                }
+            }
+        }
+    }
+
+    private static String value(String value) {
+        return value == null ? "-" : value;
+    }
+}
\ No newline at end of file
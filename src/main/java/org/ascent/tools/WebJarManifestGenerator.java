@@ -0,0 +1,46 @@
+package org.ascent.tools;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+public class WebJarManifestGenerator {
+
+    private final static Logger logger = Logger.getLogger(WebJarManifestGenerator.class.getName());
+
+    public final static String manifestLocation = "META-INF/webjars.properties";
+
+    private final static String webJarsLocation = "META-INF/resources/webjars/";
+
+    public static void main(String[] args) throws IOException {
+        Path manifestPath = Path.of(args[0]).resolve(manifestLocation);
+
+        PathMatchingResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
+        TreeMap<String, String> versions = new TreeMap<>();
+        for (Resource resource : resourcePatternResolver.getResources("classpath*:" + webJarsLocation + "*/*/**/*.*")) {
+            String url = resource.getURL().toString();
+            String[] segments = url.substring(url.lastIndexOf(webJarsLocation) + webJarsLocation.length()).split("/", 3);
+
+            if (segments.length == 3) {
+                versions.putIfAbsent(segments[0], segments[1]);
+            }
+        }
+
+        Files.createDirectories(manifestPath.getParent());
+        try (Writer writer = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8)) {
+            for (var entry : versions.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+
+        logger.info("Generated WebJar manifest with " + versions.size() + " entries in " + manifestPath);
+    }
+}
\ No newline at end of file
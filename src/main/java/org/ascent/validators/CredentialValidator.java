@@ -0,0 +1,139 @@
+package org.ascent.validators;
+
+import org.ascent.exceptions.InvalidCredentialsException;
+import org.ascent.exceptions.InvalidEmailException;
+import org.ascent.exceptions.InvalidPasswordException;
+import org.ascent.exceptions.InvalidUsernameException;
+import org.ascent.requests.LoginRequest;
+import org.ascent.requests.RegisterRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CredentialValidator {
+
+    public final static int minUsernameLength = 3;
+
+    public final static int maxUsernameLength = 32;
+
+    public final static int maxEmailLength = 254;
+
+    public final static int maxLoginEmailLength = 255;
+
+    public final static int minPasswordLength = 8;
+
+    public final static int maxPasswordBytes = 72;
+
+    public final static int maxLoginPasswordBytes = 1024;
+
+    public void validate(LoginRequest loginRequest) {
+        String email = loginRequest.getEmail();
+        if (email == null || email.length() > maxLoginEmailLength || email.indexOf('@') < 1) {
+            throw new InvalidCredentialsException();
+        }
+
+        int passwordBytes = utf8Length(loginRequest.getPassword(), maxLoginPasswordBytes);
+        if (passwordBytes < 1 || passwordBytes > maxLoginPasswordBytes) {
+            throw new InvalidCredentialsException();
+        }
+    }
+
+    public void validate(RegisterRequest registerRequest) {
+        if (!isValidUsername(registerRequest.getUsername())) {
+            throw new InvalidUsernameException();
+        }
+
+        if (!isValidEmail(registerRequest.getEmail())) {
+            throw new InvalidEmailException();
+        }
+
+        if (!isValidPassword(registerRequest.getPassword())) {
+            throw new InvalidPasswordException();
+        }
+    }
+
+    public static boolean isValidPassword(String password) {
+        return password != null && password.codePointCount(0, password.length()) >= minPasswordLength
+                && utf8Length(password, maxPasswordBytes) <= maxPasswordBytes;
+    }
+
+    public static boolean isValidUsername(String username) {
+        if (username == null || username.length() < minUsernameLength || username.length() > maxUsernameLength) {
+            return false;
+        }
+
+        for (int i = 0; i < username.length(); i++) {
+            char c = username.charAt(i);
+            if (!isAlphanumeric(c) && c != '_' && c != '.' && c != '-') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public static boolean isValidEmail(String email) {
+        if (email == null || email.length() > maxEmailLength) {
+            return false;
+        }
+
+        int at = email.indexOf('@');
+        if (at < 1 || at == email.length() - 1) {
+            return false;
+        }
+
+        for (int i = 0; i < at; i++) {
+            if (!isLocalPartCharacter(email.charAt(i))) {
+                return false;
+            }
+        }
+
+        int labelStart = at + 1;
+        for (int i = labelStart; i <= email.length(); i++) {
+            if (i == email.length() || email.charAt(i) == '.') {
+                int labelLength = i - labelStart;
+                if (labelLength < 1 || labelLength > 63
+                        || email.charAt(labelStart) == '-' || email.charAt(i - 1) == '-') {
+                    return false;
+                }
+                labelStart = i + 1;
+            } else if (!isAlphanumeric(email.charAt(i)) && email.charAt(i) != '-') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public static int utf8Length(String value, int limit) {
+        if (value == null) {
+            return 0;
+        }
+
+        int length = 0;
+        for (int i = 0; i < value.length() && length <= limit; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLocalPartCharacter(char c) {
+        return isAlphanumeric(c) || (c < 0x80 && ".!#$%&'*+/=?^_`{|}~-".indexOf(c) != -1);
+    }
+}
\ No newline at end of file
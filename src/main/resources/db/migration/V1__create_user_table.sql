@@ -0,0 +1,15 @@
+CREATE TABLE `user` (
+    disabled BIT,
+    created_on DATETIME(6),
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    last_login DATETIME(6),
+    password VARCHAR(60),
+    email VARCHAR(255),
+    username VARCHAR(255),
+    role ENUM ('USER', 'ADMIN'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+ALTER TABLE `user` ADD CONSTRAINT UK_ob8kqyqqgmefl0aco34akdtpe UNIQUE (email);
+
+ALTER TABLE `user` ADD CONSTRAINT UK_sb8bbouer5wak8vyiiy4pf2bx UNIQUE (username);
\ No newline at end of file
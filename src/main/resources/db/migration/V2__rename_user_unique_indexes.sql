@@ -0,0 +1,4 @@
+ALTER TABLE `user`
+    RENAME INDEX UK_ob8kqyqqgmefl0aco34akdtpe TO uk_user_email,
+    RENAME INDEX UK_sb8bbouer5wak8vyiiy4pf2bx TO uk_user_username,
+    ALGORITHM = INPLACE, LOCK = NONE;
\ No newline at end of file
@@ -0,0 +1,3 @@
+ALTER TABLE `user`
+    ADD COLUMN email_canonical VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NULL,
+    ALGORITHM = INSTANT;
\ No newline at end of file
@@ -0,0 +1,3 @@
+ALTER TABLE `user`
+    ADD UNIQUE INDEX uk_user_email_canonical (email_canonical),
+    ALGORITHM = INPLACE, LOCK = NONE;
\ No newline at end of file
@@ -0,0 +1,4 @@
+ALTER TABLE `user`
+    ADD INDEX idx_user_created_on (created_on),
+    ADD INDEX idx_user_role_disabled (role, disabled),
+    ALGORITHM = INPLACE, LOCK = NONE;
\ No newline at end of file
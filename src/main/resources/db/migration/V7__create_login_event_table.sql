@@ -0,0 +1,13 @@
+CREATE TABLE login_event (
+    id BIGINT NOT NULL,
+    user_id BIGINT NULL,
+    email_canonical VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NULL,
+    ip_address VARCHAR(45) NULL,
+    outcome ENUM ('SUCCESS', 'INVALID_CREDENTIALS', 'DISABLED') NOT NULL,
+    occurred_on DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, occurred_on),
+    INDEX idx_login_event_user_outcome (user_id, outcome, occurred_on)
+) ENGINE = InnoDB
+PARTITION BY RANGE COLUMNS (occurred_on) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
\ No newline at end of file
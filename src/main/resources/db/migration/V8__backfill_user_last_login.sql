@@ -0,0 +1,9 @@
+UPDATE `user` u
+JOIN (
+    SELECT user_id, MAX(occurred_on) AS occurred_on
+    FROM login_event
+    WHERE outcome = 'SUCCESS' AND user_id IS NOT NULL
+    GROUP BY user_id
+) e ON e.user_id = u.id
+SET u.last_login = e.occurred_on
+WHERE u.last_login IS NULL OR u.last_login < e.occurred_on;
\ No newline at end of file
@@ -1,19 +1,20 @@
-htmx.on("htmx:load", () => {
-    if(document.getElementById("login_modal")) {
-        document.getElementById("login_modal").addEventListener("shown.bs.modal", () => {
-            document.getElementById("login_form")[0].focus();
-        });
+document.addEventListener("shown.bs.modal", (event) => {
+    const form = event.target.querySelector("form");
+    if(form) {
+        form[0].focus();
     }
+});
 
-    if(document.getElementById("logout_modal")) {
-        document.getElementById("logout_modal").addEventListener("shown.bs.modal", () => {
-            document.getElementById("logout_form")[0].focus();
-        });
+htmx.on("click", (event) => {
+    const button = event.target.closest("[data-modal]");
+    if(button && document.getElementById(button.dataset.modal)) {
+        bootstrap.Modal.getOrCreateInstance(document.getElementById(button.dataset.modal)).show();
     }
+});
 
-    if(document.getElementById("register_modal")) {
-        document.getElementById("register_modal").addEventListener("shown.bs.modal", () => {
-            document.getElementById("register_form")[0].focus();
-        });
+htmx.on("htmx:afterSwap", (event) => {
+    const modal = event.detail.target.querySelector(".modal");
+    if(modal) {
+        bootstrap.Modal.getOrCreateInstance(modal).show();
     }
 });
\ No newline at end of file
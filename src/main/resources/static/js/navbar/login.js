@@ -1,14 +1,6 @@
-htmx.on("htmx:afterRequest", () => {
-    if(event.detail.target.id.includes("login") && event.detail.xhr.status === 200) {
+htmx.on("auth-changed", (event) => {
+    if(event.target.id === "login_form") {
         document.getElementById("login_error").innerHTML = "";
-        setTimeout(() => {
-            bootstrap.Modal.getInstance(document.getElementById("login_modal")).hide();
-            document.getElementById("login_form").reset();
-            document.getElementById("login_response").innerHTML = "";
-            htmx.ajax("GET", "/navbar", {
-                target: "#navbar",
-                swap: "innerHTML"
-            });
-        }, 1000);
+        bootstrap.Modal.getInstance(document.getElementById("login_modal")).hide();
     }
 });
\ No newline at end of file
@@ -36,7 +36,8 @@ public abstract class ContainerEnvironment {
     public static void dynamicProperties(DynamicPropertyRegistry dynamicPropertyRegistry) {
         dynamicPropertyRegistry.add("server.port", () -> serverPort);
 
-        dynamicPropertyRegistry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        dynamicPropertyRegistry.add("ascent.migrations.mode", () -> "migrate");
+        dynamicPropertyRegistry.add("ascent.warmup.enabled", () -> "false");
         dynamicPropertyRegistry.add("spring.datasource.url", () -> mySQLContainer.getJdbcUrl());
         dynamicPropertyRegistry.add("spring.datasource.username", () -> mySQLContainer.getUsername());
         dynamicPropertyRegistry.add("spring.datasource.password", () -> mySQLContainer.getPassword());
@@ -0,0 +1,174 @@
+package org.ascent.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AuthStackBenchmark {
+
+    private final static ObjectMapper objectMapper = new ObjectMapper();
+
+    private final URI baseUri;
+
+    private final URI managementUri;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public AuthStackBenchmark(URI baseUri, URI managementUri) {
+        this.baseUri = baseUri;
+        this.managementUri = managementUri;
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI baseUri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080");
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int connections = args.length > 3 ? Integer.parseInt(args[3]) : 2000;
+        URI managementUri = URI.create(args.length > 4 ? args[4] : "http://localhost:8081");
+
+        AuthStackBenchmark authStackBenchmark = new AuthStackBenchmark(baseUri, managementUri);
+
+        authStackBenchmark.throughput("navbar", concurrency, seconds, HttpRequest.newBuilder(baseUri.resolve("/navbar"))
+                .GET()
+                .build());
+        authStackBenchmark.throughput("login", concurrency, seconds, HttpRequest.newBuilder(baseUri.resolve("/login"))
+                .header("HX-Request", "true")
+                .header("Prefer", "return=minimal")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"benchmark@benchmark.invalid\",\"password\":\"password\"}"))
+                .build());
+        authStackBenchmark.memoryPerConnection(connections);
+    }
+
+    public void throughput(String name, int concurrency, int seconds, HttpRequest httpRequest)
+            throws InterruptedException {
+        run(httpRequest, concurrency, Duration.ofSeconds(Math.max(1, seconds / 4)), new ArrayList<>());
+
+        List<Long> latencies = new ArrayList<>();
+        long requests = run(httpRequest, concurrency, Duration.ofSeconds(seconds), latencies);
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+
+        System.out.printf("%-8s %10.1f req/s   p50 %7.2f ms   p99 %7.2f ms   (%d requests, concurrency %d)%n", name,
+                requests / (double) seconds, percentile(sorted, 0.50), percentile(sorted, 0.99), requests,
+                concurrency);
+    }
+
+    private long run(HttpRequest httpRequest, int concurrency, Duration duration, List<Long> latencies)
+            throws InterruptedException {
+        Semaphore semaphore = new Semaphore(concurrency);
+        AtomicLong completed = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            semaphore.acquire();
+            long start = System.nanoTime();
+
+            httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((httpResponse, throwable) -> {
+                        long latency = System.nanoTime() - start;
+
+                        synchronized (latencies) {
+                            latencies.add(latency);
+                        }
+
+                        completed.incrementAndGet();
+                        semaphore.release();
+                    });
+        }
+
+        semaphore.acquire(concurrency);
+        return completed.get();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(percentile * (sorted.length - 1)))] / 1e6;
+    }
+
+    public void memoryPerConnection(int connections) throws Exception {
+        double heapBefore = settledMetric("jvm.memory.used", "area:heap");
+        double directBefore = settledMetric("jvm.buffer.memory.used", "id:direct");
+        double threadsBefore = metric("jvm.threads.live", null);
+
+        List<Socket> sockets = new ArrayList<>(connections);
+        CountDownLatch opened = new CountDownLatch(connections);
+        byte[] partialRequest = ("GET /navbar HTTP/1.1\r\nHost: " + baseUri.getHost() + "\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+
+        try {
+            for (int i = 0; i < connections; i++) {
+                Socket socket = new Socket(baseUri.getHost(), baseUri.getPort());
+                OutputStream outputStream = socket.getOutputStream();
+                outputStream.write(partialRequest);
+                outputStream.flush();
+                sockets.add(socket);
+                opened.countDown();
+            }
+
+            opened.await();
+            Thread.sleep(2000);
+
+            double heapAfter = settledMetric("jvm.memory.used", "area:heap");
+            double directAfter = settledMetric("jvm.buffer.memory.used", "id:direct");
+            double threadsAfter = metric("jvm.threads.live", null);
+
+            System.out.printf("memory   %10.0f heap bytes/connection   %8.0f direct bytes/connection   "
+                            + "%+.0f threads   (%d pending connections)%n",
+                    (heapAfter - heapBefore) / connections, (directAfter - directBefore) / connections,
+                    threadsAfter - threadsBefore, connections);
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    private double settledMetric(String name, String tag) throws IOException, InterruptedException {
+        double[] samples = new double[5];
+
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = metric(name, tag);
+            Thread.sleep(200);
+        }
+
+        Arrays.sort(samples);
+        return samples[0];
+    }
+
+    private double metric(String name, String tag) throws IOException, InterruptedException {
+        URI uri = managementUri.resolve("/actuator/metrics/" + name + (tag == null ? "" : "?tag=" + tag));
+        HttpResponse<String> httpResponse = httpClient.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        if (httpResponse.statusCode() != 200) {
+            throw new IOException("Metric " + name + " is not available at " + uri);
+        }
+
+        JsonNode measurements = objectMapper.readTree(httpResponse.body()).get("measurements");
+        return measurements.get(0).get("value").asDouble();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package org.ascent.benchmarks;
+
+import org.ascent.converters.FormRequestHttpMessageConverter;
+import org.ascent.requests.LoginRequest;
+import org.ascent.requests.RegisterRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBindingBenchmark {
+
+    private final MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter();
+
+    private final FormRequestHttpMessageConverter formConverter = new FormRequestHttpMessageConverter();
+
+    private final byte[] loginJson = "{\"email\":\"username@email.com\",\"password\":\"password\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] loginForm = "email=username%40email.com&password=password"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] registerJson = "{\"username\":\"username\",\"email\":\"username@email.com\",\"password\":\"password\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] registerForm = "username=username&email=username%40email.com&password=password"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private ServletServerHttpRequest loginParameters;
+
+    @Setup
+    public void setup() throws IOException {
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest("POST", "/login");
+        mockHttpServletRequest.addParameter("email", "username@email.com");
+        mockHttpServletRequest.addParameter("password", "password");
+        loginParameters = new ServletServerHttpRequest(mockHttpServletRequest);
+
+        jsonConverter.read(LoginRequest.class, new MockHttpInputMessage(loginJson));
+        jsonConverter.read(RegisterRequest.class, new MockHttpInputMessage(registerJson));
+    }
+
+    @Benchmark
+    public Object loginJson() throws IOException {
+        return jsonConverter.read(LoginRequest.class, new MockHttpInputMessage(loginJson));
+    }
+
+    @Benchmark
+    public Object loginForm() throws IOException {
+        return formConverter.read(LoginRequest.class, new MockHttpInputMessage(loginForm));
+    }
+
+    @Benchmark
+    public Object loginFormParameters() throws IOException {
+        return formConverter.read(LoginRequest.class, loginParameters);
+    }
+
+    @Benchmark
+    public Object registerJson() throws IOException {
+        return jsonConverter.read(RegisterRequest.class, new MockHttpInputMessage(registerJson));
+    }
+
+    @Benchmark
+    public Object registerForm() throws IOException {
+        return formConverter.read(RegisterRequest.class, new MockHttpInputMessage(registerForm));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RequestBindingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
\ No newline at end of file
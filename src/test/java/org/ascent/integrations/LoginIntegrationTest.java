@@ -158,6 +158,36 @@ public class LoginIntegrationTest extends ContainerEnvironment {
                 .andExpect(result -> assertTrue(result.getResponse().getContentAsString().contains("<span class=\"ms-1\">Success!</span>")));
     }
 
+    private static Stream<Arguments> callWithExistingUserAndPreferMinimalHeaderReturnsNoContentAndTrigger() {
+        return Stream.of(
+                arguments("username@email.com", "password"),
+                arguments("username2@email.com", "password2")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void callWithExistingUserAndPreferMinimalHeaderReturnsNoContentAndTrigger(String email, String password) throws Exception {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword(password);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String loginRequestJson = objectMapper.writeValueAsString(loginRequest);
+
+        mockMvc.perform(
+                        post("/login")
+                                .header("HX-Request", "true")
+                                .header("Prefer", "return=minimal")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(loginRequestJson))
+                .andDo(print())
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("HX-Trigger", "auth-changed"))
+                .andExpect(content().string(""))
+                .andExpect(request().sessionAttribute("logged", true));
+    }
+
     private static Stream<Arguments> callWithNonExistingUserReturnsUnauthorizedAndInvalidCredentials() {
         return Stream.of(
                 arguments("username4@email.com", "password4"),
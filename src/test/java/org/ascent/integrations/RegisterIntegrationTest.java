@@ -438,4 +438,38 @@ public class RegisterIntegrationTest extends ContainerEnvironment {
 
         assertFalse(userRepository.existsByUsername(username));
     }
+
+    private static Stream<Arguments> callWithMalformedCredentialsReturnsBadRequestAndDoesNotSaveUser() {
+        return Stream.of(
+                arguments("us", "username6@email.com", "password6", "responses/register_response :: invalid_username"),
+                arguments("user name", "username6@email.com", "password6", "responses/register_response :: invalid_username"),
+                arguments("username6", "username6", "password6", "responses/register_response :: invalid_email"),
+                arguments("username6", "username6@email.com", "short", "responses/register_response :: invalid_password"),
+                arguments("username6", "username6@email.com", "p".repeat(73), "responses/register_response :: invalid_password")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void callWithMalformedCredentialsReturnsBadRequestAndDoesNotSaveUser(String username, String email, String password, String view) throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setUsername(username);
+        registerRequest.setEmail(email);
+        registerRequest.setPassword(password);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String registerRequestJson = objectMapper.writeValueAsString(registerRequest);
+
+        mockMvc.perform(
+                        post("/register")
+                                .header("HX-Request", "true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(registerRequestJson))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name(view));
+
+        assertFalse(userRepository.existsByUsername(username));
+        assertFalse(userRepository.existsByEmail(email));
+    }
 }
\ No newline at end of file
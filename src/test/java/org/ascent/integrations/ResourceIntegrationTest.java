@@ -0,0 +1,147 @@
+package org.ascent.integrations;
+
+import org.ascent.ContainerEnvironment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceIntegrationTest extends ContainerEnvironment {
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    public void beforeEach() {
+        webTestClient = WebTestClient.bindToServer().baseUrl("http://localhost:" + serverPort).build();
+    }
+
+    private static Stream<String> callIndexReturnsFingerprintedResourceUrls() {
+        return Stream.of(
+                "/css/style",
+                "/js/navbar\\.bundle\\.min",
+                "/webjars/bootstrap/[^/]+/css/bootstrap\\.min",
+                "/webjars/htmx\\.org/[^/]+/dist/htmx\\.min"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void callIndexReturnsFingerprintedResourceUrls(String resourcePattern) {
+        String responseBody = webTestClient.get()
+                .uri("/")
+                .exchange()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(responseBody);
+        assertTrue(Pattern.compile(resourcePattern + "-[0-9a-f]{32}\\.(css|js)").matcher(responseBody).find());
+    }
+
+    private static Stream<String> callFingerprintedResourceReturnsImmutableCacheControl() {
+        return Stream.of("/css/style", "/js/navbar\\.bundle\\.min", "/webjars/bootstrap/[^/]+/css/bootstrap\\.min");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void callFingerprintedResourceReturnsImmutableCacheControl(String resourcePattern) {
+        String responseBody = webTestClient.get()
+                .uri("/")
+                .exchange()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(responseBody);
+
+        Matcher matcher = Pattern.compile(resourcePattern + "-[0-9a-f]{32}\\.(css|js)").matcher(responseBody);
+        assertTrue(matcher.find());
+
+        WebTestClient.ResponseSpec responseSpec = webTestClient.get()
+                .uri(matcher.group())
+                .exchange();
+
+        HttpStatusCode responseStatusCode = responseSpec.returnResult(String.class).getStatus();
+        HttpHeaders responseHeaders = responseSpec.returnResult(String.class).getResponseHeaders();
+
+        assertAll(
+                () -> assertEquals(200, responseStatusCode.value()),
+                () -> {
+                    String cacheControl = responseHeaders.getCacheControl();
+                    assertNotNull(cacheControl);
+                    assertTrue(cacheControl.contains("max-age=31536000"));
+                    assertTrue(cacheControl.contains("immutable"));
+                }
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"br", "gzip"})
+    public void callFingerprintedResourceWithAcceptEncodingReturnsPrecompressedVariant(String encoding) {
+        String responseBody = webTestClient.get()
+                .uri("/")
+                .exchange()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(responseBody);
+
+        Matcher matcher = Pattern.compile("/webjars/bootstrap/[^/]+/css/bootstrap\\.min-[0-9a-f]{32}\\.css")
+                .matcher(responseBody);
+        assertTrue(matcher.find());
+
+        WebTestClient.ResponseSpec responseSpec = webTestClient.get()
+                .uri(matcher.group())
+                .header(HttpHeaders.ACCEPT_ENCODING, encoding)
+                .exchange();
+
+        HttpStatusCode responseStatusCode = responseSpec.returnResult(String.class).getStatus();
+        HttpHeaders responseHeaders = responseSpec.returnResult(String.class).getResponseHeaders();
+
+        assertAll(
+                () -> assertEquals(200, responseStatusCode.value()),
+                () -> assertEquals(encoding, responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING)),
+                () -> assertTrue(responseHeaders.getVary().contains(HttpHeaders.ACCEPT_ENCODING))
+        );
+    }
+
+    @Test
+    public void callFingerprintedResourceWithIdentityEncodingReturnsUncompressedResource() {
+        String responseBody = webTestClient.get()
+                .uri("/")
+                .exchange()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(responseBody);
+
+        Matcher matcher = Pattern.compile("/webjars/bootstrap/[^/]+/css/bootstrap\\.min-[0-9a-f]{32}\\.css")
+                .matcher(responseBody);
+        assertTrue(matcher.find());
+
+        WebTestClient.ResponseSpec responseSpec = webTestClient.get()
+                .uri(matcher.group())
+                .header(HttpHeaders.ACCEPT_ENCODING, "identity")
+                .exchange();
+
+        HttpStatusCode responseStatusCode = responseSpec.returnResult(String.class).getStatus();
+        HttpHeaders responseHeaders = responseSpec.returnResult(String.class).getResponseHeaders();
+
+        assertAll(
+                () -> assertEquals(200, responseStatusCode.value()),
+                () -> assertNull(responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING))
+        );
+    }
+}
\ No newline at end of file
@@ -32,6 +32,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -411,4 +412,63 @@ public class ViewIntegrationTest extends ContainerEnvironment {
                 }
         );
     }
+
+    private static Stream<Arguments> callModalReturnsOkAndPrivatelyCachedModal() {
+        return Stream.of(
+                arguments("/navbar/login", "login_modal"),
+                arguments("/navbar/register", "register_modal"),
+                arguments("/navbar/logout", "logout_modal")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void callModalReturnsOkAndPrivatelyCachedModal(String path, String modalId) throws Exception {
+        mockMvc.perform(
+                        get(path)
+                                .header("HX-Request", "true"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=3600, private"))
+                .andExpect(content().contentType("text/html;charset=UTF-8"))
+                .andExpect(result -> assertTrue(result.getResponse().getContentAsString().contains("id=\"" + modalId + "\"")));
+    }
+
+    @Test
+    public void callNavbarDoesNotInlineModals() throws Exception {
+        mockMvc.perform(
+                        get("/navbar"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(result -> assertFalse(result.getResponse().getContentAsString().contains("class=\"modal")));
+    }
+
+    @Test
+    public void callIndexReturnsPreloadLinksForPageAssets() throws Exception {
+        mockMvc.perform(
+                        get("/"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(result -> {
+                    String content = result.getResponse().getContentAsString();
+                    List<String> links = result.getResponse().getHeaders(HttpHeaders.LINK);
+
+                    assertEquals(6, links.size());
+                    for (String link : links) {
+                        String url = link.substring(1, link.indexOf('>'));
+
+                        assertTrue(link.endsWith("; rel=preload; as=style") || link.endsWith("; rel=preload; as=script"));
+                        assertTrue(content.contains("\"" + url + "\""));
+                    }
+                });
+    }
+
+    @Test
+    public void callNavbarDoesNotReturnPreloadLinks() throws Exception {
+        mockMvc.perform(
+                        get("/navbar"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package org.ascent.units.admissions;
+
+import org.ascent.admissions.CoDel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CoDelTest {
+
+    private final static long target = 5;
+
+    private final static long interval = 100;
+
+    @Test
+    public void invalidParametersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CoDel(0, interval, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CoDel(target, target - 1, 0));
+    }
+
+    @Test
+    public void withoutStandingQueueOnlyDelaysBeyondIntervalAreDropped() {
+        CoDel coDel = new CoDel(target, interval, 0);
+
+        assertFalse(coDel.shouldDrop(50, 10));
+        assertFalse(coDel.shouldDrop(interval, 20));
+        assertTrue(coDel.shouldDrop(interval + 1, 30));
+        assertFalse(coDel.isOverloaded());
+    }
+
+    @Test
+    public void standingQueueForWholeIntervalSwitchesToTarget() {
+        CoDel coDel = new CoDel(target, interval, 0);
+
+        for (long now = 0; now < interval; now += 10) {
+            assertFalse(coDel.shouldDrop(20, now));
+        }
+
+        assertTrue(coDel.shouldDrop(20, interval));
+        assertTrue(coDel.isOverloaded());
+        assertFalse(coDel.shouldDrop(target, interval + 10));
+    }
+
+    @Test
+    public void queueDrainingOnceInIntervalClearsOverload() {
+        CoDel coDel = new CoDel(target, interval, 0);
+        coDel.shouldDrop(20, 10);
+        coDel.shouldDrop(20, interval);
+
+        coDel.shouldDrop(1, interval + 10);
+        coDel.shouldDrop(20, interval + 20);
+
+        assertFalse(coDel.shouldDrop(20, 2 * interval));
+        assertFalse(coDel.isOverloaded());
+    }
+
+    @Test
+    public void idleIntervalDoesNotCountAsStandingQueue() {
+        CoDel coDel = new CoDel(target, interval, 0);
+
+        assertFalse(coDel.shouldDrop(20, 5 * interval));
+        assertFalse(coDel.isOverloaded());
+    }
+}
\ No newline at end of file
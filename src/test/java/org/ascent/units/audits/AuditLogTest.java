@@ -0,0 +1,170 @@
+package org.ascent.units.audits;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.audits.AuditLog;
+import org.ascent.audits.AuditRecord;
+import org.ascent.audits.AuditSegment;
+import org.ascent.enums.AuditType;
+import org.ascent.properties.AuditProperties;
+import org.ascent.runners.WarmupRequests;
+import org.ascent.tools.AuditLogReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuditLogTest {
+
+    @TempDir
+    private Path directory;
+
+    private AuditProperties auditProperties;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    @BeforeEach
+    public void beforeEach() {
+        auditProperties = new AuditProperties();
+        auditProperties.setDirectory(directory);
+        auditProperties.setRingCapacity(64);
+
+        simpleMeterRegistry = new SimpleMeterRegistry();
+    }
+
+    private List<AuditRecord> records() throws Exception {
+        List<Path> segments = AuditSegment.list(directory);
+        assertFalse(segments.isEmpty());
+
+        return segments.stream().flatMap(segment -> {
+            try {
+                return AuditSegment.read(segment).stream();
+            } catch (Exception exception) {
+                throw new RuntimeException(exception);
+            }
+        }).toList();
+    }
+
+    @Test
+    public void recordsAreWrittenAndDecoded() throws Exception {
+        AuditLog auditLog = new AuditLog(auditProperties, simpleMeterRegistry);
+        auditLog.start();
+
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
+        mockHttpServletRequest.setRemoteAddr("2001:db8::1");
+        AuditLog.subject(mockHttpServletRequest, "usernäme@email.com");
+
+        auditLog.record(mockHttpServletRequest, AuditType.LOGIN_INVALID_CREDENTIALS);
+        auditLog.record(AuditType.LOGOUT, "127.0.0.1", null);
+        auditLog.stop();
+
+        List<AuditRecord> auditRecords = records();
+        assertEquals(2, auditRecords.size());
+        assertEquals(AuditType.LOGIN_INVALID_CREDENTIALS, auditRecords.get(0).getType());
+        assertEquals("2001:db8::1", auditRecords.get(0).getAddress());
+        assertEquals("usernäme@email.com", auditRecords.get(0).getSubject());
+        assertEquals(AuditType.LOGOUT, auditRecords.get(1).getType());
+        assertNull(auditRecords.get(1).getSubject());
+        assertEquals(2, simpleMeterRegistry.get("ascent.audit.records").tag("result", "written").counter().count());
+    }
+
+    @Test
+    public void warmupRequestIsNotRecorded() throws Exception {
+        AuditLog auditLog = new AuditLog(auditProperties, simpleMeterRegistry);
+        auditLog.start();
+
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
+        mockHttpServletRequest.addHeader(WarmupRequests.header, WarmupRequests.token());
+
+        auditLog.record(mockHttpServletRequest, AuditType.LOGIN_SUCCESS);
+        auditLog.record(AuditType.LOGOUT, "127.0.0.1", null);
+        auditLog.stop();
+
+        List<AuditRecord> auditRecords = records();
+        assertEquals(1, auditRecords.size());
+        assertEquals(AuditType.LOGOUT, auditRecords.get(0).getType());
+    }
+
+    @Test
+    public void requestWithForgedWarmupHeaderIsRecorded() throws Exception {
+        AuditLog auditLog = new AuditLog(auditProperties, simpleMeterRegistry);
+        auditLog.start();
+
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
+        mockHttpServletRequest.addHeader(WarmupRequests.header, "forged");
+
+        auditLog.record(mockHttpServletRequest, AuditType.LOGIN_SUCCESS);
+        auditLog.stop();
+
+        assertEquals(1, records().size());
+    }
+
+    @Test
+    public void longSubjectIsTruncatedOnCharacterBoundary() throws Exception {
+        AuditLog auditLog = new AuditLog(auditProperties, simpleMeterRegistry);
+        auditLog.start();
+
+        auditLog.record(AuditType.REGISTER_SUCCESS, "127.0.0.1", "é".repeat(100));
+        auditLog.stop();
+
+        assertEquals("é".repeat(30), records().get(0).getSubject());
+    }
+
+    @Test
+    public void fullSegmentsRotateAndOldestAreDeleted() throws Exception {
+        auditProperties.setSegmentSize(DataSize.ofBytes(AuditRecord.size * 4));
+        auditProperties.setMaxSegments(2);
+
+        AuditLog auditLog = new AuditLog(auditProperties, simpleMeterRegistry);
+        auditLog.start();
+
+        for (int i = 0; i < 9; i++) {
+            auditLog.record(AuditType.LOGIN_SUCCESS, "127.0.0.1", "subject" + i);
+        }
+        auditLog.stop();
+
+        assertEquals(2, AuditSegment.list(directory).size());
+        assertEquals(List.of("subject3", "subject4", "subject5", "subject6", "subject7", "subject8"),
+                records().stream().map(AuditRecord::getSubject).toList());
+    }
+
+    @Test
+    public void disabledAuditLogRecordsNothing() {
+        auditProperties.setEnabled(false);
+
+        AuditLog auditLog = new AuditLog(auditProperties, simpleMeterRegistry);
+        auditLog.start();
+        auditLog.record(AuditType.LOGOUT, "127.0.0.1", null);
+        auditLog.stop();
+
+        assertEquals(0, simpleMeterRegistry.get("ascent.audit.queued").gauge().value());
+    }
+
+    @Test
+    public void readerFiltersRecords() throws Exception {
+        AuditLog auditLog = new AuditLog(auditProperties, simpleMeterRegistry);
+        auditLog.start();
+
+        auditLog.record(AuditType.LOGIN_SUCCESS, "127.0.0.1", "alice@email.com");
+        auditLog.record(AuditType.LOGIN_INVALID_CREDENTIALS, "10.0.0.1", "bob@email.com");
+        auditLog.record(AuditType.LOGIN_INVALID_CREDENTIALS, "10.0.0.2", "alice@email.com");
+        auditLog.stop();
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        AuditLogReader.print(List.of(directory), AuditLogReader.filter("type", "LOGIN_INVALID_CREDENTIALS")
+                        .and(AuditLogReader.filter("subject", "alice")),
+                new PrintStream(byteArrayOutputStream, true, StandardCharsets.UTF_8));
+
+        List<String> lines = byteArrayOutputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("\tLOGIN_INVALID_CREDENTIALS\t10.0.0.2\talice@email.com"));
+    }
+}
\ No newline at end of file
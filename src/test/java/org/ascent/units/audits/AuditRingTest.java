@@ -0,0 +1,71 @@
+package org.ascent.units.audits;
+
+import org.ascent.audits.AuditRing;
+import org.ascent.enums.AuditType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuditRingTest {
+
+    @Test
+    public void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new AuditRing(5).capacity());
+        assertEquals(16384, new AuditRing(16384).capacity());
+    }
+
+    @Test
+    public void drainReturnsOfferedRecordsInOrder() {
+        AuditRing auditRing = new AuditRing(4);
+
+        assertTrue(auditRing.offer(AuditType.LOGIN_SUCCESS, "127.0.0.1", "first", 1));
+        assertTrue(auditRing.offer(AuditType.LOGOUT, "127.0.0.1", "second", 2));
+
+        List<String> subjects = new ArrayList<>();
+        assertEquals(2, auditRing.drain((sequence, occurredOn, type, address, subject) -> subjects.add(subject), 10));
+
+        assertEquals(List.of("first", "second"), subjects);
+        assertEquals(0, auditRing.size());
+    }
+
+    @Test
+    public void offerFailsWhenFullUntilDrained() {
+        AuditRing auditRing = new AuditRing(2);
+
+        assertTrue(auditRing.offer(AuditType.LOGOUT, null, null, 1));
+        assertTrue(auditRing.offer(AuditType.LOGOUT, null, null, 2));
+        assertFalse(auditRing.offer(AuditType.LOGOUT, null, null, 3));
+
+        assertEquals(1, auditRing.drain((sequence, occurredOn, type, address, subject) -> {}, 1));
+        assertTrue(auditRing.offer(AuditType.LOGOUT, null, null, 4));
+    }
+
+    @Test
+    public void concurrentProducersLoseNothingBelowCapacity() throws Exception {
+        AuditRing auditRing = new AuditRing(1 << 16);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        for (int producer = 0; producer < 4; producer++) {
+            executorService.execute(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    auditRing.offer(AuditType.LOGIN_SUCCESS, "127.0.0.1", null, i + 1);
+                }
+            });
+        }
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+
+        long[] expected = {0};
+        int drained = auditRing.drain((sequence, occurredOn, type, address, subject) ->
+                assertEquals(expected[0]++, sequence), Integer.MAX_VALUE);
+
+        assertEquals(40000, drained);
+    }
+}
\ No newline at end of file
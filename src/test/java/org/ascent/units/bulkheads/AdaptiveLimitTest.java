@@ -0,0 +1,118 @@
+package org.ascent.units.bulkheads;
+
+import org.ascent.bulkheads.AdaptiveLimit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveLimitTest {
+
+    @Test
+    public void initialLimitIsClampedToBounds() {
+        assertEquals(5, new AdaptiveLimit(100, 1, 5, 0.9, 2.0).getLimit());
+        assertEquals(3, new AdaptiveLimit(0, 3, 5, 0.9, 2.0).getLimit());
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 0, 5, 0.9, 2.0));
+    }
+
+    @Test
+    public void saturatedFastSamplesIncreaseLimitAdditively() {
+        AdaptiveLimit adaptiveLimit = new AdaptiveLimit(10, 1, 100, 0.9, 2.0);
+
+        for (int i = 0; i < 100; i++) {
+            adaptiveLimit.onSample(1_000_000, adaptiveLimit.getLimit(), false);
+        }
+
+        assertTrue(adaptiveLimit.getLimit() > 10);
+        assertTrue(adaptiveLimit.getLimit() < 20);
+    }
+
+    @Test
+    public void idleSamplesDoNotIncreaseLimit() {
+        AdaptiveLimit adaptiveLimit = new AdaptiveLimit(10, 1, 100, 0.9, 2.0);
+
+        for (int i = 0; i < 100; i++) {
+            adaptiveLimit.onSample(1_000_000, 1, false);
+        }
+
+        assertEquals(10, adaptiveLimit.getLimit());
+    }
+
+    @Test
+    public void sustainedSlowSamplesDecreaseLimitMultiplicativelyDownToMinimum() {
+        AdaptiveLimit adaptiveLimit = new AdaptiveLimit(10, 2, 100, 0.5, 2.0);
+        adaptiveLimit.onSample(1_000_000, 10, false);
+
+        for (int i = 0; i < 4; i++) {
+            adaptiveLimit.onSample(5_000_000, 10, false);
+        }
+
+        assertEquals(5, adaptiveLimit.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            adaptiveLimit.onSample(50_000_000, 10, false);
+        }
+
+        assertEquals(2, adaptiveLimit.getLimit());
+    }
+
+    @Test
+    public void singleSlowSampleDoesNotDecreaseLimit() {
+        AdaptiveLimit adaptiveLimit = new AdaptiveLimit(10, 1, 100, 0.5, 2.0);
+        adaptiveLimit.onSample(1_000_000, 1, false);
+
+        adaptiveLimit.onSample(5_000_000, 1, false);
+
+        assertEquals(10, adaptiveLimit.getLimit());
+    }
+
+    @Test
+    public void fastRejectionsMixedWithSlowSuccessesDoNotCollapseLimit() {
+        AdaptiveLimit adaptiveLimit = new AdaptiveLimit(8, 1, 64, 0.9, 2.0);
+
+        for (int i = 0; i < 1000; i++) {
+            long latencyNanos = i % 2 == 1 ? 100_000_000 : 100_000;
+            adaptiveLimit.onSample(latencyNanos, adaptiveLimit.getLimit(), false);
+        }
+
+        assertTrue(adaptiveLimit.getLimit() >= 8);
+        assertTrue(adaptiveLimit.getBaselineNanos() > 10_000_000);
+    }
+
+    @Test
+    public void slowBackendAfterFastStartStillDecreasesLimit() {
+        AdaptiveLimit adaptiveLimit = new AdaptiveLimit(32, 1, 64, 0.9, 2.0);
+
+        for (int i = 0; i < 100; i++) {
+            adaptiveLimit.onSample(10_000_000, 32, false);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            adaptiveLimit.onSample(100_000_000, 32, false);
+        }
+
+        assertTrue(adaptiveLimit.getLimit() < 32);
+    }
+
+    @Test
+    public void droppedSamplesDecreaseLimitWithoutMovingBaseline() {
+        AdaptiveLimit adaptiveLimit = new AdaptiveLimit(10, 1, 100, 0.5, 2.0);
+        adaptiveLimit.onSample(1_000_000, 10, false);
+
+        adaptiveLimit.onSample(1, 10, true);
+
+        assertEquals(5, adaptiveLimit.getLimit());
+        assertEquals(1_000_000, adaptiveLimit.getBaselineNanos());
+    }
+
+    @Test
+    public void baselineDriftsTowardsSustainedLatency() {
+        AdaptiveLimit adaptiveLimit = new AdaptiveLimit(10, 1, 100, 0.9, 2.0);
+        adaptiveLimit.onSample(1_000_000, 10, false);
+
+        for (int i = 0; i < 500; i++) {
+            adaptiveLimit.onSample(1_500_000, 10, false);
+        }
+
+        assertTrue(adaptiveLimit.getBaselineNanos() > 1_400_000);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package org.ascent.units.bulkheads;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.bulkheads.AdaptiveLimit;
+import org.ascent.bulkheads.Bulkhead;
+import org.ascent.bulkheads.BulkheadRegistry;
+import org.ascent.properties.BulkheadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkheadTest {
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    public void beforeEach() {
+        simpleMeterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead("login", List.of("/login"), new AdaptiveLimit(2, 1, 10, 0.5, 2.0),
+                simpleMeterRegistry);
+    }
+
+    @Test
+    public void acquireBeyondLimitIsRejectedAndCounted() {
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+
+        assertEquals(2, bulkhead.getInFlight());
+        assertEquals(1, simpleMeterRegistry.get("ascent.bulkhead.rejections").tag("bulkhead", "login")
+                .counter().count());
+        assertEquals(2, simpleMeterRegistry.get("ascent.bulkhead.in.flight").tag("bulkhead", "login")
+                .gauge().value());
+        assertEquals(2, simpleMeterRegistry.get("ascent.bulkhead.limit").tag("bulkhead", "login")
+                .gauge().value());
+    }
+
+    @Test
+    public void releaseFreesCapacityAndAdaptsLimit() {
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+
+        bulkhead.release(1_000_000, false);
+        bulkhead.release(1_000_000, true);
+
+        assertEquals(0, bulkhead.getInFlight());
+        assertEquals(1, bulkhead.getLimit());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+    }
+
+    @Test
+    public void registryBuildsBulkheadsFromRoutesOnlyWhenEnabled() {
+        BulkheadProperties.Route route = new BulkheadProperties.Route();
+        route.setPaths(List.of("/", "/navbar/**"));
+        route.setInitialLimit(50);
+
+        BulkheadProperties bulkheadProperties = new BulkheadProperties();
+        bulkheadProperties.getRoutes().put("view", route);
+
+        BulkheadRegistry bulkheadRegistry = new BulkheadRegistry(bulkheadProperties, new SimpleMeterRegistry());
+
+        assertEquals(1, bulkheadRegistry.getBulkheads().size());
+        assertEquals(List.of("/", "/navbar/**"), bulkheadRegistry.get("view").getPaths());
+        assertEquals(50, bulkheadRegistry.get("view").getLimit());
+        assertNull(bulkheadRegistry.get("login"));
+
+        bulkheadProperties.setEnabled(false);
+
+        assertTrue(new BulkheadRegistry(bulkheadProperties, new SimpleMeterRegistry()).getBulkheads().isEmpty());
+    }
+}
\ No newline at end of file
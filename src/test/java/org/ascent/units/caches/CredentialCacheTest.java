@@ -0,0 +1,189 @@
+package org.ascent.units.caches;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.caches.CredentialCache;
+import org.ascent.caches.RedisCredentialTier;
+import org.ascent.caches.UserCredentials;
+import org.ascent.datasources.ReadYourWritesRegistry;
+import org.ascent.entities.User;
+import org.ascent.enums.Role;
+import org.ascent.properties.CredentialCacheProperties;
+import org.ascent.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CredentialCacheTest {
+
+    private CredentialCacheProperties credentialCacheProperties;
+
+    private UserRepository mockUserRepository;
+
+    private ReadYourWritesRegistry mockReadYourWritesRegistry;
+
+    private RedisCredentialTier mockRedisCredentialTier;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    @BeforeEach
+    public void beforeEach() {
+        credentialCacheProperties = new CredentialCacheProperties();
+        mockUserRepository = mock();
+        mockReadYourWritesRegistry = mock();
+        mockRedisCredentialTier = mock();
+        simpleMeterRegistry = new SimpleMeterRegistry();
+    }
+
+    private CredentialCache credentialCache(RedisCredentialTier redisCredentialTier) {
+        ObjectProvider<RedisCredentialTier> redisCredentialTierProvider = mock();
+        when(redisCredentialTierProvider.getIfAvailable()).thenReturn(redisCredentialTier);
+
+        return new CredentialCache(credentialCacheProperties, mockUserRepository, mockReadYourWritesRegistry,
+                redisCredentialTierProvider, simpleMeterRegistry);
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("username");
+        user.setEmail(email);
+        user.setPassword("hash");
+        user.setRole(Role.USER);
+        return user;
+    }
+
+    @Test
+    public void repeatedLookupIsServedFromCacheAndCountedAsHit() {
+        when(mockUserRepository.findByEmailCanonical("username@email.com")).thenReturn(user("username@email.com"));
+        CredentialCache credentialCache = credentialCache(null);
+
+        UserCredentials first = credentialCache.get("username@email.com");
+        UserCredentials second = credentialCache.get("username@email.com");
+
+        assertSame(first, second);
+        assertEquals("hash", second.getPassword());
+        verify(mockUserRepository, times(1)).findByEmailCanonical(any());
+        assertEquals(1, simpleMeterRegistry.get("cache.gets").tag("cache", "credentials").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1, simpleMeterRegistry.get("cache.gets").tag("cache", "credentials").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    public void unknownEmailIsNotCached() {
+        CredentialCache credentialCache = credentialCache(null);
+
+        assertNull(credentialCache.get("unknown@email.com"));
+        assertNull(credentialCache.get("unknown@email.com"));
+        assertNull(credentialCache.get(null));
+
+        verify(mockUserRepository, times(2)).findByEmailCanonical("unknown@email.com");
+    }
+
+    @Test
+    public void invalidatedLookupIsReloadedAndSharedTierIsInvalidated() {
+        when(mockUserRepository.findByEmailCanonical("username@email.com")).thenReturn(user("username@email.com"));
+        CredentialCache credentialCache = credentialCache(mockRedisCredentialTier);
+
+        credentialCache.get("username@email.com");
+        credentialCache.invalidate("username@email.com");
+        credentialCache.get("username@email.com");
+
+        verify(mockUserRepository, times(2)).findByEmailCanonical(any());
+        verify(mockRedisCredentialTier, times(2)).put(eq("username@email.com"), any());
+        verify(mockRedisCredentialTier, times(1)).invalidate("username@email.com");
+    }
+
+    @Test
+    public void invalidationRoutesNextLookupToPrimaryAndRepublishesSharedTier() {
+        when(mockUserRepository.findByEmailCanonical("username@email.com")).thenReturn(user("username@email.com"));
+        CredentialCache credentialCache = credentialCache(mockRedisCredentialTier);
+
+        credentialCache.invalidate("username@email.com");
+        credentialCache.invalidateLocal("username@email.com");
+
+        verify(mockReadYourWritesRegistry, times(2)).recordWrite("username@email.com");
+
+        when(mockReadYourWritesRegistry.isRecent("username@email.com")).thenReturn(true);
+        UserCredentials fresh = credentialCache.get("username@email.com");
+
+        assertEquals("hash", fresh.getPassword());
+        verify(mockRedisCredentialTier, never()).get(any());
+        verify(mockRedisCredentialTier, times(1)).put("username@email.com", fresh);
+    }
+
+    @Test
+    public void sharedTierHitSkipsDatabase() {
+        UserCredentials userCredentials = new UserCredentials(1L, "username", "username@email.com", "hash", false,
+                Role.USER);
+        when(mockRedisCredentialTier.get("username@email.com")).thenReturn(userCredentials);
+        CredentialCache credentialCache = credentialCache(mockRedisCredentialTier);
+
+        assertSame(userCredentials, credentialCache.get("username@email.com"));
+        verifyNoInteractions(mockUserRepository);
+    }
+
+    @Test
+    public void recentWriteIsReadFromDatabaseAndRefreshesCache() {
+        when(mockUserRepository.findByEmailCanonical("username@email.com")).thenReturn(user("username@email.com"));
+        when(mockReadYourWritesRegistry.isRecent("username@email.com")).thenReturn(false, true, false);
+        CredentialCache credentialCache = credentialCache(null);
+
+        credentialCache.get("username@email.com");
+        UserCredentials fresh = credentialCache.get("username@email.com");
+
+        assertSame(fresh, credentialCache.get("username@email.com"));
+        verify(mockUserRepository, times(2)).findByEmailCanonical(any());
+    }
+
+    @Test
+    public void concurrentColdLookupsLoadOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        when(mockUserRepository.findByEmailCanonical("username@email.com")).thenAnswer(invocation -> {
+            loading.await();
+            return user("username@email.com");
+        });
+        CredentialCache credentialCache = credentialCache(null);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<UserCredentials>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> credentialCache.get("username@email.com")));
+            }
+
+            Thread.sleep(100);
+            loading.countDown();
+
+            for (Future<UserCredentials> future : futures) {
+                assertEquals("username", future.get().getUsername());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(mockUserRepository, times(1)).findByEmailCanonical(any());
+    }
+
+    @Test
+    public void disabledCacheAlwaysReadsDatabase() {
+        credentialCacheProperties.setEnabled(false);
+        when(mockUserRepository.findByEmailCanonical("username@email.com")).thenReturn(user("username@email.com"));
+        CredentialCache credentialCache = credentialCache(null);
+
+        credentialCache.get("username@email.com");
+        credentialCache.get("username@email.com");
+
+        verify(mockUserRepository, times(2)).findByEmailCanonical(any());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package org.ascent.units.controllers;
+
+import org.ascent.controllers.DirectoryController;
+import org.ascent.directories.DirectoryPage;
+import org.ascent.enums.DirectoryField;
+import org.ascent.enums.Role;
+import org.ascent.interceptors.AdminInterceptor;
+import org.ascent.managers.DirectoryManager;
+import org.ascent.managers.ViewManager;
+import org.ascent.requests.DirectoryRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@AutoConfigureMockMvc
+public class DirectoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Mock
+    private DirectoryManager mockDirectoryManager;
+
+    @Mock
+    private ViewManager mockViewManager;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new DirectoryController(mockDirectoryManager, mockViewManager))
+                .addInterceptors(new AdminInterceptor())
+                .build();
+    }
+
+    private static MockHttpSession session(Role role) {
+        MockHttpSession mockHttpSession = new MockHttpSession();
+        mockHttpSession.setAttribute("logged", true);
+        mockHttpSession.setAttribute("role", role);
+        return mockHttpSession;
+    }
+
+    @Test
+    public void callWithUserSessionReturnsForbiddenAndAdminRequired() throws Exception {
+        mockMvc.perform(
+                        get("/admin/users")
+                                .session(session(Role.USER)))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(view().name("responses/directory_response :: admin_required"));
+
+        verifyNoInteractions(mockDirectoryManager);
+    }
+
+    @Test
+    public void callWithAdminSessionReturnsOkAndDirectory() throws Exception {
+        when(mockDirectoryManager.page(any())).thenReturn(new DirectoryPage(List.of(), null));
+
+        mockMvc.perform(
+                        get("/admin/users")
+                                .session(session(Role.ADMIN)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(view().name("directory"))
+                .andExpect(model().attribute("rows", List.of()))
+                .andExpect(model().attributeDoesNotExist("next"));
+    }
+
+    @Test
+    public void callRowsReturnsOkAndRowsWithNextCursor() throws Exception {
+        DirectoryRequest next = new DirectoryRequest();
+        next.setAfterCreatedOn(Instant.parse("2024-01-02T00:00:00Z"));
+        next.setAfterId(4L);
+        when(mockDirectoryManager.page(any())).thenReturn(new DirectoryPage(List.of(), next));
+
+        mockMvc.perform(
+                        get("/admin/users/rows")
+                                .session(session(Role.ADMIN))
+                                .header("HX-Request", true))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(view().name("fragments/directory :: rows"))
+                .andExpect(model().attribute("next",
+                        "/admin/users/rows?field=USERNAME&afterCreatedOn=2024-01-02T00:00:00Z&afterId=4"));
+    }
+
+    @Test
+    public void callRowsWithSearchCursorEncodesSearch() throws Exception {
+        DirectoryRequest next = new DirectoryRequest();
+        next.setSearch("a b");
+        next.setField(DirectoryField.EMAIL);
+        next.setAfterKey("a b@email.com");
+        when(mockDirectoryManager.page(any())).thenReturn(new DirectoryPage(List.of(), next));
+
+        mockMvc.perform(
+                        get("/admin/users/rows")
+                                .session(session(Role.ADMIN))
+                                .header("HX-Request", true)
+                                .param("search", "a b")
+                                .param("field", "EMAIL"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("next",
+                        "/admin/users/rows?search=a%20b&field=EMAIL&afterKey=a%20b%40email.com"));
+    }
+
+    @Test
+    public void callRowsWithPlusAddressedSearchPagesWithSameSearch() throws Exception {
+        DirectoryRequest next = new DirectoryRequest();
+        next.setSearch("john+tag@x.com");
+        next.setField(DirectoryField.EMAIL);
+        next.setAfterKey("john+tag@x.com");
+        when(mockDirectoryManager.page(any())).thenReturn(new DirectoryPage(List.of(), next));
+
+        String nextUri = mockMvc.perform(
+                        get("/admin/users/rows")
+                                .session(session(Role.ADMIN))
+                                .header("HX-Request", true)
+                                .param("search", "john+tag@x.com")
+                                .param("field", "EMAIL"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("next",
+                        "/admin/users/rows?search=john%2Btag%40x.com&field=EMAIL&afterKey=john%2Btag%40x.com"))
+                .andReturn().getModelAndView().getModel().get("next").toString();
+
+        mockMvc.perform(
+                        get(URI.create(nextUri))
+                                .session(session(Role.ADMIN))
+                                .header("HX-Request", true))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<DirectoryRequest> directoryRequest = ArgumentCaptor.forClass(DirectoryRequest.class);
+        verify(mockDirectoryManager, times(2)).page(directoryRequest.capture());
+        assertEquals("john+tag@x.com", directoryRequest.getValue().getSearch());
+        assertEquals(DirectoryField.EMAIL, directoryRequest.getValue().getField());
+        assertEquals("john+tag@x.com", directoryRequest.getValue().getAfterKey());
+    }
+
+    @Test
+    public void callRowsWithInvalidCursorReturnsBadRequestAndInvalidSearch() throws Exception {
+        mockMvc.perform(
+                        get("/admin/users/rows")
+                                .session(session(Role.ADMIN))
+                                .header("HX-Request", true)
+                                .param("afterId", "x"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name("responses/directory_response :: invalid_search"));
+
+        verifyNoInteractions(mockDirectoryManager);
+    }
+}
\ No newline at end of file
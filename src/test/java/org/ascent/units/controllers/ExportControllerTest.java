@@ -0,0 +1,127 @@
+package org.ascent.units.controllers;
+
+import org.ascent.controllers.ExportController;
+import org.ascent.enums.Role;
+import org.ascent.interceptors.AdminInterceptor;
+import org.ascent.managers.ExportManager;
+import org.ascent.requests.ExportRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@AutoConfigureMockMvc
+public class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Mock
+    private ExportManager mockExportManager;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ExportController(mockExportManager))
+                .addInterceptors(new AdminInterceptor())
+                .build();
+    }
+
+    private static MockHttpSession session(Role role) {
+        MockHttpSession mockHttpSession = new MockHttpSession();
+        mockHttpSession.setAttribute("logged", true);
+        mockHttpSession.setAttribute("role", role);
+        return mockHttpSession;
+    }
+
+    @Test
+    public void callWithUserSessionReturnsForbiddenAndAdminRequired() throws Exception {
+        mockMvc.perform(
+                        get("/admin/users/export")
+                                .session(session(Role.USER)))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(view().name("responses/export_response :: admin_required"));
+
+        verifyNoInteractions(mockExportManager);
+    }
+
+    @Test
+    public void callWithAdminSessionStreamsCsvAttachment() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("id\r\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        }).when(mockExportManager).exportUsers(any(), any(), any());
+
+        MvcResult mvcResult = mockMvc.perform(
+                        get("/admin/users/export")
+                                .session(session(Role.ADMIN))
+                                .param("role", "ADMIN")
+                                .param("disabled", "false")
+                                .param("createdFrom", "2024-01-01T00:00:00Z"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.csv\""))
+                .andExpect(content().string("id\r\n"));
+
+        ArgumentCaptor<ExportRequest> exportRequest = ArgumentCaptor.forClass(ExportRequest.class);
+        verify(mockExportManager).exportUsers(exportRequest.capture(), eq(ExportManager.csv), any());
+        assertEquals(Role.ADMIN, exportRequest.getValue().getRole());
+        assertEquals(false, exportRequest.getValue().getDisabled());
+        assertEquals(Instant.parse("2024-01-01T00:00:00Z"), exportRequest.getValue().getCreatedFrom());
+    }
+
+    @Test
+    public void callAcceptingNdjsonStreamsNdjsonAttachment() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                        get("/admin/users/export")
+                                .session(session(Role.ADMIN))
+                                .accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.ndjson\""));
+
+        verify(mockExportManager).exportUsers(any(), eq(ExportManager.ndjson), any());
+    }
+
+    @Test
+    public void callWithInvalidFilterReturnsBadRequestAndInvalidFilter() throws Exception {
+        mockMvc.perform(
+                        get("/admin/users/export")
+                                .session(session(Role.ADMIN))
+                                .param("role", "ROOT"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name("responses/export_response :: invalid_filter"));
+
+        verifyNoInteractions(mockExportManager);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package org.ascent.units.controllers;
+
+import org.ascent.controllers.ImportController;
+import org.ascent.enums.Role;
+import org.ascent.exceptions.ImportInProgressException;
+import org.ascent.imports.ImportReport;
+import org.ascent.interceptors.AdminInterceptor;
+import org.ascent.managers.ImportManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@AutoConfigureMockMvc
+public class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Mock
+    private ImportManager mockImportManager;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImportController(mockImportManager))
+                .addInterceptors(new AdminInterceptor())
+                .build();
+    }
+
+    private static MockHttpSession session(Role role) {
+        MockHttpSession mockHttpSession = new MockHttpSession();
+        mockHttpSession.setAttribute("logged", true);
+        mockHttpSession.setAttribute("role", role);
+        return mockHttpSession;
+    }
+
+    @Test
+    public void callWithoutSessionReturnsForbiddenAndAdminRequired() throws Exception {
+        mockMvc.perform(
+                        post("/admin/users/import")
+                                .contentType("text/csv")
+                                .content("username,email,password"))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(view().name("responses/import_response :: admin_required"));
+
+        verifyNoInteractions(mockImportManager);
+    }
+
+    @Test
+    public void callWithUserSessionReturnsForbiddenAndAdminRequired() throws Exception {
+        mockMvc.perform(
+                        post("/admin/users/import")
+                                .session(session(Role.USER))
+                                .contentType("text/csv")
+                                .content("username,email,password"))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(view().name("responses/import_response :: admin_required"));
+
+        verifyNoInteractions(mockImportManager);
+    }
+
+    @Test
+    public void callWithUnsupportedContentTypeReturnsUnsupportedMediaType() throws Exception {
+        mockMvc.perform(
+                        post("/admin/users/import")
+                                .session(session(Role.ADMIN))
+                                .contentType("application/json")
+                                .content("[]"))
+                .andDo(print())
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    public void callWithAdminSessionReturnsOkAndReport() throws Exception {
+        ImportReport importReport = new ImportReport(10);
+        when(mockImportManager.importUsers(any(), any())).thenReturn(importReport);
+
+        mockMvc.perform(
+                        post("/admin/users/import")
+                                .session(session(Role.ADMIN))
+                                .contentType("application/x-ndjson")
+                                .content("{}"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(view().name("responses/import_response :: report"))
+                .andExpect(model().attribute("report", importReport));
+    }
+
+    @Test
+    public void callWithInvalidHeaderReturnsBadRequestAndInvalidHeader() throws Exception {
+        when(mockImportManager.importUsers(any(), any())).thenThrow(new IllegalArgumentException());
+
+        mockMvc.perform(
+                        post("/admin/users/import")
+                                .session(session(Role.ADMIN))
+                                .contentType("text/csv")
+                                .content("name,mail"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name("responses/import_response :: invalid_header"));
+    }
+
+    @Test
+    public void callDuringRunningImportReturnsConflictAndInProgress() throws Exception {
+        when(mockImportManager.importUsers(any(), any())).thenThrow(new ImportInProgressException());
+
+        mockMvc.perform(
+                        post("/admin/users/import")
+                                .session(session(Role.ADMIN))
+                                .contentType("text/csv")
+                                .content("username,email,password"))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(view().name("responses/import_response :: in_progress"));
+    }
+}
\ No newline at end of file
@@ -2,11 +2,19 @@ package org.ascent.units.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.audits.AuditLog;
+import org.ascent.bulkheads.AdaptiveLimit;
+import org.ascent.bulkheads.Bulkhead;
 import org.ascent.controllers.LoginController;
+import org.ascent.converters.FormRequestHttpMessageConverter;
+import org.ascent.enums.AuditType;
 import org.ascent.exceptions.InvalidCredentialsException;
 import org.ascent.exceptions.UserDisabledException;
+import org.ascent.interceptors.BulkheadInterceptor;
 import org.ascent.managers.LoginManager;
 import org.ascent.requests.LoginRequest;
+import org.ascent.validators.CredentialValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,11 +26,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -38,12 +47,20 @@ public class LoginControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Mock
+    private CredentialValidator mockCredentialValidator;
+
     @Mock
     private LoginManager mockLoginManager;
 
+    @Mock
+    private AuditLog mockAuditLog;
+
     @BeforeEach
     public void beforeEach() {
-        mockMvc = MockMvcBuilders.standaloneSetup(new LoginController(mockLoginManager)).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new LoginController(mockCredentialValidator, mockLoginManager, mockAuditLog))
+                .setMessageConverters(new FormRequestHttpMessageConverter(), new MappingJackson2HttpMessageConverter())
+                .build();
     }
 
     @Test
@@ -78,19 +95,34 @@ public class LoginControllerTest {
     }
 
     @Test
-    public void callWithUrlEncodedMediaTypeReturnsUnsupportedMediaType() throws Exception {
-        LoginRequest loginRequest = new LoginRequest();
+    public void callWithUrlEncodedMediaTypeReturnsOkAndSuccess() throws Exception {
+        mockMvc.perform(
+                        post("/login")
+                                .header("HX-Request", "true")
+                                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                                .content("email=username%40email.com&password=p%C3%A4ssword"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(view().name("responses/login_response :: success"));
 
-        String loginRequestString = loginRequest.toString();
-        String loginRequestUrlEncoded = URLEncoder.encode(loginRequestString, StandardCharsets.UTF_8);
+        verify(mockLoginManager, times(1)).login(any(HttpServletRequest.class), argThat(request ->
+                request.getEmail().equals("username@email.com") && request.getPassword().equals("pässword")));
+        verify(mockAuditLog, times(1)).record(argThat(request ->
+                "username@email.com".equals(request.getAttribute(AuditLog.subjectAttribute))), eq(AuditType.LOGIN_SUCCESS));
+    }
 
+    @Test
+    public void callWithUrlEncodedMediaTypeIgnoresFieldsInQueryString() throws Exception {
         mockMvc.perform(
-                        post("/login")
+                        post("/login?email=other%40email.com&password=other")
                                 .header("HX-Request", "true")
                                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                                .content(loginRequestUrlEncoded))
+                                .content("email=username%40email.com&password=p%C3%A4ssword"))
                 .andDo(print())
-                .andExpect(status().isUnsupportedMediaType());
+                .andExpect(status().isOk());
+
+        verify(mockLoginManager, times(1)).login(any(HttpServletRequest.class), argThat(request ->
+                request.getEmail().equals("username@email.com") && request.getPassword().equals("pässword")));
     }
 
     @Test
@@ -108,6 +140,51 @@ public class LoginControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(view().name("responses/login_response :: success"));
+
+        verify(mockAuditLog, times(1)).record(any(HttpServletRequest.class), eq(AuditType.LOGIN_SUCCESS));
+    }
+
+    @Test
+    public void callWithPreferMinimalHeaderReturnsNoContentAndAuthChangedTrigger() throws Exception {
+        LoginRequest loginRequest = new LoginRequest();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String loginRequestJson = objectMapper.writeValueAsString(loginRequest);
+
+        mockMvc.perform(
+                        post("/login")
+                                .header("HX-Request", "true")
+                                .header("Prefer", "return=minimal")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(loginRequestJson))
+                .andDo(print())
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("HX-Trigger", "auth-changed"))
+                .andExpect(header().string("Preference-Applied", "return=minimal"))
+                .andExpect(content().string(""));
+
+        verify(mockLoginManager, times(1)).login(any(HttpServletRequest.class), any(LoginRequest.class));
+    }
+
+    @Test
+    public void callWithPreferMinimalHeaderAndInvalidCredentialsExceptionThrownReturnsUnauthorizedAndInvalidCredentials() throws Exception {
+        LoginRequest loginRequest = new LoginRequest();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String loginRequestJson = objectMapper.writeValueAsString(loginRequest);
+
+        doThrow(new InvalidCredentialsException()).when(mockLoginManager).login(any(HttpServletRequest.class), any(LoginRequest.class));
+
+        mockMvc.perform(
+                        post("/login")
+                                .header("HX-Request", "true")
+                                .header("Prefer", "return=minimal")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(loginRequestJson))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().doesNotExist("HX-Trigger"))
+                .andExpect(view().name("responses/login_response :: invalid_credentials"));
     }
 
     @Test
@@ -145,6 +222,9 @@ public class LoginControllerTest {
                 .andExpect(status().isUnauthorized())
                 .andExpect(view().name("responses/login_response :: invalid_credentials"))
                 .andExpect(result -> assertTrue(result.getResolvedException() instanceof InvalidCredentialsException));
+
+        verify(mockAuditLog, times(1)).record(any(HttpServletRequest.class), eq(AuditType.LOGIN_INVALID_CREDENTIALS));
+        verify(mockAuditLog, never()).record(any(HttpServletRequest.class), eq(AuditType.LOGIN_SUCCESS));
     }
 
     @Test
@@ -210,4 +290,52 @@ public class LoginControllerTest {
                 () -> assertTrue(capturedOutput.getOut().contains("RuntimeException"))
         );
     }
+
+    @Test
+    public void callWithInvalidRequestReturnsUnauthorizedAndInvalidCredentialsWithoutCallingLoginManager() throws Exception {
+        LoginRequest loginRequest = new LoginRequest();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String loginRequestJson = objectMapper.writeValueAsString(loginRequest);
+
+        doThrow(new InvalidCredentialsException()).when(mockCredentialValidator).validate(any(LoginRequest.class));
+
+        mockMvc.perform(
+                        post("/login")
+                                .header("HX-Request", "true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(loginRequestJson))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(view().name("responses/login_response :: invalid_credentials"));
+
+        verifyNoInteractions(mockLoginManager);
+    }
+
+    @Test
+    public void callWithBulkheadFullReturnsServiceUnavailableAndThrottled() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("login", List.of("/login"), new AdaptiveLimit(1, 1, 1, 0.9, 2.0),
+                new SimpleMeterRegistry());
+        bulkhead.tryAcquire();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new LoginController(mockCredentialValidator, mockLoginManager, mockAuditLog))
+                .setMessageConverters(new FormRequestHttpMessageConverter(), new MappingJackson2HttpMessageConverter())
+                .addMappedInterceptors(new String[]{"/login"},
+                        new BulkheadInterceptor(bulkhead, mockAuditLog, Duration.ofSeconds(2)))
+                .build();
+
+        mockMvc.perform(
+                        post("/login")
+                                .header("HX-Request", "true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{}"))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(view().name("responses/login_response :: throttled"));
+
+        verifyNoInteractions(mockLoginManager);
+        verify(mockAuditLog, times(1)).record(any(HttpServletRequest.class), eq(AuditType.THROTTLED));
+        assertEquals(1, bulkhead.getInFlight());
+    }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package org.ascent.units.controllers;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.ascent.audits.AuditLog;
 import org.ascent.controllers.LogoutController;
+import org.ascent.enums.AuditType;
 import org.ascent.managers.LogoutManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,9 +35,12 @@ public class LogoutControllerTest {
     @Mock
     private LogoutManager mockLogoutManager;
 
+    @Mock
+    private AuditLog mockAuditLog;
+
     @BeforeEach
     public void beforeEach() {
-        mockMvc = MockMvcBuilders.standaloneSetup(new LogoutController(mockLogoutManager)).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new LogoutController(mockLogoutManager, mockAuditLog)).build();
     }
 
     @Test
@@ -63,6 +68,23 @@ public class LogoutControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(view().name("responses/logout_response :: success"));
+
+        verify(mockAuditLog, times(1)).record(any(HttpServletRequest.class), eq(AuditType.LOGOUT));
+    }
+
+    @Test
+    public void callWithPreferMinimalHeaderReturnsNoContentAndAuthChangedTrigger() throws Exception {
+        mockMvc.perform(
+                        get("/logout")
+                                .header("HX-Request", "true")
+                                .header("Prefer", "return=minimal"))
+                .andDo(print())
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("HX-Trigger", "auth-changed"))
+                .andExpect(header().string("Preference-Applied", "return=minimal"))
+                .andExpect(content().string(""));
+
+        verify(mockLogoutManager, times(1)).logout(any(HttpServletRequest.class));
     }
 
     @Test
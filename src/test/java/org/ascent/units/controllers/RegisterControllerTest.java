@@ -1,11 +1,19 @@
 package org.ascent.units.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.ascent.audits.AuditLog;
 import org.ascent.controllers.RegisterController;
+import org.ascent.converters.FormRequestHttpMessageConverter;
+import org.ascent.enums.AuditType;
 import org.ascent.exceptions.EmailAlreadyInUseException;
+import org.ascent.exceptions.InvalidEmailException;
+import org.ascent.exceptions.InvalidPasswordException;
+import org.ascent.exceptions.InvalidUsernameException;
 import org.ascent.exceptions.UsernameAlreadyInUseException;
 import org.ascent.managers.RegisterManager;
 import org.ascent.requests.RegisterRequest;
+import org.ascent.validators.CredentialValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,12 +25,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,12 +43,20 @@ public class RegisterControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Mock
+    private CredentialValidator mockCredentialValidator;
+
     @Mock
     private RegisterManager mockRegisterManager;
 
+    @Mock
+    private AuditLog mockAuditLog;
+
     @BeforeEach
     public void beforeEach() {
-        mockMvc = MockMvcBuilders.standaloneSetup(new RegisterController(mockRegisterManager)).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new RegisterController(mockCredentialValidator, mockRegisterManager, mockAuditLog))
+                .setMessageConverters(new FormRequestHttpMessageConverter(), new MappingJackson2HttpMessageConverter())
+                .build();
     }
 
     @Test
@@ -77,19 +91,18 @@ public class RegisterControllerTest {
     }
 
     @Test
-    public void callWithUrlEncodedMediaTypeReturnsUnsupportedMediaType() throws Exception {
-        RegisterRequest registerRequest = new RegisterRequest();
-
-        String registerRequestString = registerRequest.toString();
-        String registerRequestUrlEncoded = URLEncoder.encode(registerRequestString, StandardCharsets.UTF_8);
-
+    public void callWithUrlEncodedMediaTypeReturnsCreatedAndSuccess() throws Exception {
         mockMvc.perform(
                         post("/register")
                                 .header("HX-Request", "true")
                                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                                .content(registerRequestUrlEncoded))
+                                .content("username=username&email=username%40email.com&password=p%C3%A4ss+word"))
                 .andDo(print())
-                .andExpect(status().isUnsupportedMediaType());
+                .andExpect(status().isCreated())
+                .andExpect(view().name("responses/register_response :: success"));
+
+        verify(mockRegisterManager, times(1)).register(argThat(request -> request.getUsername().equals("username")
+                && request.getEmail().equals("username@email.com") && request.getPassword().equals("päss word")));
     }
 
     @Test
@@ -109,6 +122,28 @@ public class RegisterControllerTest {
                 .andExpect(view().name("responses/register_response :: success"));
     }
 
+    @Test
+    public void callWithPreferMinimalHeaderReturnsNoContentAndUserRegisteredTrigger() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String registerRequestJson = objectMapper.writeValueAsString(registerRequest);
+
+        mockMvc.perform(
+                        post("/register")
+                                .header("HX-Request", "true")
+                                .header("Prefer", "return=minimal")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(registerRequestJson))
+                .andDo(print())
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("HX-Trigger", "user-registered"))
+                .andExpect(header().string("Preference-Applied", "return=minimal"))
+                .andExpect(content().string(""));
+
+        verify(mockRegisterManager, times(1)).register(any(RegisterRequest.class));
+    }
+
     @Test
     public void callThenCallsRegisterManagerRegisterMethod() throws Exception {
         RegisterRequest registerRequest = new RegisterRequest();
@@ -144,6 +179,8 @@ public class RegisterControllerTest {
                 .andExpect(status().isConflict())
                 .andExpect(view().name("responses/register_response :: username_already_in_use"))
                 .andExpect(result -> assertTrue(result.getResolvedException() instanceof UsernameAlreadyInUseException));
+
+        verify(mockAuditLog, times(1)).record(any(HttpServletRequest.class), eq(AuditType.REGISTER_CONFLICT));
     }
 
     @Test
@@ -209,4 +246,70 @@ public class RegisterControllerTest {
                 () -> assertTrue(capturedOutput.getOut().contains("RuntimeException"))
         );
     }
+
+    @Test
+    public void callWithInvalidUsernameReturnsBadRequestAndInvalidUsernameWithoutCallingRegisterManager() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String registerRequestJson = objectMapper.writeValueAsString(registerRequest);
+
+        doThrow(new InvalidUsernameException()).when(mockCredentialValidator).validate(any(RegisterRequest.class));
+
+        mockMvc.perform(
+                        post("/register")
+                                .header("HX-Request", "true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(registerRequestJson))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name("responses/register_response :: invalid_username"))
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof InvalidUsernameException));
+
+        verifyNoInteractions(mockRegisterManager);
+    }
+
+    @Test
+    public void callWithInvalidEmailReturnsBadRequestAndInvalidEmailWithoutCallingRegisterManager() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String registerRequestJson = objectMapper.writeValueAsString(registerRequest);
+
+        doThrow(new InvalidEmailException()).when(mockCredentialValidator).validate(any(RegisterRequest.class));
+
+        mockMvc.perform(
+                        post("/register")
+                                .header("HX-Request", "true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(registerRequestJson))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name("responses/register_response :: invalid_email"))
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof InvalidEmailException));
+
+        verifyNoInteractions(mockRegisterManager);
+    }
+
+    @Test
+    public void callWithInvalidPasswordReturnsBadRequestAndInvalidPasswordWithoutCallingRegisterManager() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String registerRequestJson = objectMapper.writeValueAsString(registerRequest);
+
+        doThrow(new InvalidPasswordException()).when(mockCredentialValidator).validate(any(RegisterRequest.class));
+
+        mockMvc.perform(
+                        post("/register")
+                                .header("HX-Request", "true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(registerRequestJson))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name("responses/register_response :: invalid_password"))
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof InvalidPasswordException));
+
+        verifyNoInteractions(mockRegisterManager);
+    }
 }
\ No newline at end of file
@@ -5,6 +5,9 @@ import org.ascent.controllers.ViewController;
 import org.ascent.managers.ViewManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,10 +17,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.util.stream.Stream;
+
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.junit.jupiter.params.provider.Arguments.*;
 
 @SpringBootTest
 @AutoConfigureWebMvc
@@ -86,4 +92,57 @@ public class ViewControllerTest {
 
         verify(mockViewManager, times(1)).navbar(any(HttpSession.class), any(ModelAndView.class));
     }
+
+    private static Stream<Arguments> callModalReturnsOkAndModal() {
+        return Stream.of(
+                arguments("/navbar/login", "fragments/navbar/login :: login"),
+                arguments("/navbar/register", "fragments/navbar/register :: register"),
+                arguments("/navbar/logout", "fragments/navbar/logout :: logout")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void callModalReturnsOkAndModal(String path, String viewName) throws Exception {
+        mockMvc.perform(
+                        get(path)
+                                .header("HX-Request", "true"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(view().name(viewName));
+    }
+
+    private static Stream<String> callModalWithoutHTMXHeaderReturnsNotFound() {
+        return Stream.of("/navbar/login", "/navbar/register", "/navbar/logout");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void callModalWithoutHTMXHeaderReturnsNotFound(String path) throws Exception {
+        mockMvc.perform(
+                        get(path))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    @ParameterizedTest
+    @MethodSource("callModalWithoutHTMXHeaderReturnsNotFound")
+    public void callModalWithPostHTTPMethodReturnsMethodNotAllowed(String path) throws Exception {
+        mockMvc.perform(
+                        post(path)
+                                .header("HX-Request", "true"))
+                .andDo(print())
+                .andExpect(status().isMethodNotAllowed());
+    }
+
+    @ParameterizedTest
+    @MethodSource("callModalWithoutHTMXHeaderReturnsNotFound")
+    public void callModalDoesNotCallViewManager(String path) throws Exception {
+        mockMvc.perform(
+                        get(path)
+                                .header("HX-Request", "true"))
+                .andDo(print());
+
+        verifyNoInteractions(mockViewManager);
+    }
 }
\ No newline at end of file
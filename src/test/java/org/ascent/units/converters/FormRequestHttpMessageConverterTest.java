@@ -0,0 +1,128 @@
+package org.ascent.units.converters;
+
+import org.ascent.converters.FormRequestHttpMessageConverter;
+import org.ascent.requests.LoginRequest;
+import org.ascent.requests.RegisterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.*;
+
+public class FormRequestHttpMessageConverterTest {
+
+    private FormRequestHttpMessageConverter formRequestHttpMessageConverter;
+
+    @BeforeEach
+    public void beforeEach() {
+        formRequestHttpMessageConverter = new FormRequestHttpMessageConverter();
+    }
+
+    @Test
+    public void canReadLoginAndRegisterRequestsOnlyFromUrlEncodedMediaType() {
+        assertTrue(formRequestHttpMessageConverter.canRead(LoginRequest.class, MediaType.APPLICATION_FORM_URLENCODED));
+        assertTrue(formRequestHttpMessageConverter.canRead(RegisterRequest.class, MediaType.APPLICATION_FORM_URLENCODED));
+        assertFalse(formRequestHttpMessageConverter.canRead(LoginRequest.class, MediaType.APPLICATION_JSON));
+        assertFalse(formRequestHttpMessageConverter.canRead(String.class, MediaType.APPLICATION_FORM_URLENCODED));
+    }
+
+    @Test
+    public void canNotWrite() {
+        assertFalse(formRequestHttpMessageConverter.canWrite(LoginRequest.class, MediaType.APPLICATION_FORM_URLENCODED));
+        assertFalse(formRequestHttpMessageConverter.canWrite(RegisterRequest.class, null));
+    }
+
+    private static Stream<Arguments> decodeReturnsDecodedFields() {
+        return Stream.of(
+                arguments("email=username%40email.com&password=password",
+                        Map.of("email", "username@email.com", "password", "password")),
+                arguments("password=pass+word%21&password=ignored",
+                        Map.of("password", "pass word!")),
+                arguments("username=%C8%99%c8%9b&empty=&flag",
+                        Map.of("username", "șț", "empty", "", "flag", "")),
+                arguments("&&email=a%3Db%26c&",
+                        Map.of("email", "a=b&c")),
+                arguments("",
+                        Map.of())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void decodeReturnsDecodedFields(String body, Map<String, String> fields) {
+        assertEquals(fields, FormRequestHttpMessageConverter.decode(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"email=%", "email=%4", "email=%4G", "email=%%41"})
+    public void readWithMalformedBodyThrowsHttpMessageNotReadableException(String body) {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> formRequestHttpMessageConverter.read(LoginRequest.class, inputMessage));
+    }
+
+    @Test
+    public void readFromBodyReturnsRegisterRequest() throws Exception {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(
+                "username=username&email=username%40email.com&password=p%C3%A4ss+word".getBytes(StandardCharsets.UTF_8));
+
+        RegisterRequest registerRequest = (RegisterRequest) formRequestHttpMessageConverter.read(RegisterRequest.class, inputMessage);
+
+        assertEquals("username", registerRequest.getUsername());
+        assertEquals("username@email.com", registerRequest.getEmail());
+        assertEquals("päss word", registerRequest.getPassword());
+    }
+
+    @Test
+    public void readFromServletParametersReturnsLoginRequest() throws Exception {
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest("POST", "/login");
+        mockHttpServletRequest.addParameter("email", "username@email.com");
+        mockHttpServletRequest.addParameter("password", "password");
+
+        LoginRequest loginRequest = (LoginRequest) formRequestHttpMessageConverter.read(LoginRequest.class,
+                new ServletServerHttpRequest(mockHttpServletRequest));
+
+        assertEquals("username@email.com", loginRequest.getEmail());
+        assertEquals("password", loginRequest.getPassword());
+    }
+
+    @Test
+    public void readFromServletRequestWithQueryStringBindsBodyOnly() throws Exception {
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest("POST", "/login");
+        mockHttpServletRequest.setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+        mockHttpServletRequest.setQueryString("email=other%40email.com&password=other");
+        mockHttpServletRequest.addParameter("email", "other@email.com", "username@email.com");
+        mockHttpServletRequest.addParameter("password", "other", "password");
+        mockHttpServletRequest.setContent("email=username%40email.com&password=password".getBytes(StandardCharsets.UTF_8));
+
+        LoginRequest loginRequest = (LoginRequest) formRequestHttpMessageConverter.read(LoginRequest.class,
+                new ServletServerHttpRequest(mockHttpServletRequest));
+
+        assertEquals("username@email.com", loginRequest.getEmail());
+        assertEquals("password", loginRequest.getPassword());
+    }
+
+    @Test
+    public void readWithMissingFieldsReturnsRequestWithNullFields() throws Exception {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage("email=username%40email.com".getBytes(StandardCharsets.UTF_8));
+
+        LoginRequest loginRequest = (LoginRequest) formRequestHttpMessageConverter.read(LoginRequest.class, inputMessage);
+
+        assertEquals("username@email.com", loginRequest.getEmail());
+        assertNull(loginRequest.getPassword());
+    }
+}
\ No newline at end of file
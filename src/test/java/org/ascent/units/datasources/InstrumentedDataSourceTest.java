@@ -0,0 +1,94 @@
+package org.ascent.units.datasources;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.datasources.InstrumentedDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstrumentedDataSourceTest {
+
+    private DriverManagerDataSource driverManagerDataSource;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    @BeforeEach
+    public void beforeEach() {
+        driverManagerDataSource = new DriverManagerDataSource("jdbc:h2:mem:instrumented", "sa", "");
+        simpleMeterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void closedConnectionRecordsUsageOnce() throws Exception {
+        InstrumentedDataSource instrumentedDataSource = new InstrumentedDataSource(driverManagerDataSource,
+                "primary", simpleMeterRegistry, Duration.ZERO, 1.0);
+
+        Connection connection = instrumentedDataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        assertEquals(connection, connection);
+        assertEquals(connection.hashCode(), connection.hashCode());
+        assertEquals(1, simpleMeterRegistry.get("ascent.datasource.connection.usage")
+                .tag("pool", "primary")
+                .tag("caller", "other")
+                .timer()
+                .count());
+        assertNull(simpleMeterRegistry.find("ascent.datasource.connection.long.holds").counter());
+    }
+
+    @Test
+    public void connectionHeldPastThresholdIsCountedAsLongHold() throws Exception {
+        InstrumentedDataSource instrumentedDataSource = new InstrumentedDataSource(driverManagerDataSource,
+                "primary", simpleMeterRegistry, Duration.ofMillis(1), 0.0);
+
+        try (Connection ignored = instrumentedDataSource.getConnection()) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(1, simpleMeterRegistry.get("ascent.datasource.connection.long.holds")
+                .tag("pool", "primary")
+                .counter()
+                .count());
+    }
+
+    @Test
+    public void unsampledConnectionRecordsNoCallerUsage() throws Exception {
+        InstrumentedDataSource instrumentedDataSource = new InstrumentedDataSource(driverManagerDataSource,
+                "primary", simpleMeterRegistry, Duration.ofSeconds(10), 0.0);
+
+        instrumentedDataSource.getConnection().close();
+
+        assertNull(simpleMeterRegistry.find("ascent.datasource.connection.usage").timer());
+        assertNull(simpleMeterRegistry.find("ascent.datasource.connection.long.holds").counter());
+        assertEquals(1, instrumentedDataSource.drainAcquireCount());
+    }
+
+    @Test
+    public void acquisitionsAreDrained() throws Exception {
+        InstrumentedDataSource instrumentedDataSource = new InstrumentedDataSource(driverManagerDataSource,
+                "primary", simpleMeterRegistry, Duration.ZERO, 1.0);
+
+        instrumentedDataSource.getConnection().close();
+        instrumentedDataSource.getConnection().close();
+
+        assertEquals(2, instrumentedDataSource.drainAcquireCount());
+        assertTrue(instrumentedDataSource.drainAcquireTime() > 0);
+        assertEquals(0, instrumentedDataSource.drainAcquireCount());
+        assertEquals(0, instrumentedDataSource.drainAcquireTime());
+    }
+
+    @Test
+    public void wrappedDataSourceCanBeUnwrapped() throws Exception {
+        InstrumentedDataSource instrumentedDataSource = new InstrumentedDataSource(driverManagerDataSource,
+                "primary", simpleMeterRegistry, Duration.ZERO, 1.0);
+
+        assertSame(driverManagerDataSource, instrumentedDataSource.unwrap(DriverManagerDataSource.class));
+    }
+}
\ No newline at end of file
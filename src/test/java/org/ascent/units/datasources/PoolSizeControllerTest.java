@@ -0,0 +1,113 @@
+package org.ascent.units.datasources;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.datasources.InstrumentedDataSource;
+import org.ascent.datasources.PoolSizeController;
+import org.ascent.properties.DataSourcePoolProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PoolSizeControllerTest {
+
+    private HikariDataSource hikariDataSource;
+
+    private InstrumentedDataSource instrumentedDataSource;
+
+    private DataSourcePoolProperties.Adaptive adaptive;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    private PoolSizeController poolSizeController;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        hikariDataSource = new HikariDataSource();
+        hikariDataSource.setJdbcUrl("jdbc:h2:mem:pool");
+        hikariDataSource.setUsername("sa");
+        hikariDataSource.setPoolName("primary");
+        hikariDataSource.setMaximumPoolSize(10);
+
+        simpleMeterRegistry = new SimpleMeterRegistry();
+        instrumentedDataSource = new InstrumentedDataSource(hikariDataSource, "primary", simpleMeterRegistry,
+                Duration.ZERO, 0.0);
+        instrumentedDataSource.getConnection().close();
+
+        adaptive = new DataSourcePoolProperties.Adaptive();
+        adaptive.setMinimumPoolSize(5);
+        adaptive.setMaximumPoolSize(12);
+        adaptive.setStep(2);
+
+        poolSizeController = new PoolSizeController(List.of(instrumentedDataSource), adaptive, simpleMeterRegistry);
+        poolSizeController.adjust();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        hikariDataSource.close();
+    }
+
+    @Test
+    public void slowAcquisitionsGrowPoolUpToMaximum() throws Exception {
+        adaptive.setTargetAcquireTime(Duration.ZERO);
+
+        instrumentedDataSource.getConnection().close();
+        poolSizeController.adjust();
+        assertEquals(12, hikariDataSource.getMaximumPoolSize());
+
+        instrumentedDataSource.getConnection().close();
+        poolSizeController.adjust();
+        assertEquals(12, hikariDataSource.getMaximumPoolSize());
+
+        assertEquals(1, simpleMeterRegistry.get("ascent.datasource.pool.resizes")
+                .tag("pool", "primary")
+                .tag("direction", "up")
+                .counter()
+                .count());
+    }
+
+    @Test
+    public void fastAcquisitionsShrinkPoolDownToMinimum() {
+        adaptive.setTargetAcquireTime(Duration.ofSeconds(1));
+
+        for (int i = 0; i < 10; i++) {
+            poolSizeController.adjust();
+        }
+
+        assertEquals(5, hikariDataSource.getMaximumPoolSize());
+        assertEquals(4, hikariDataSource.getMinimumIdle());
+        assertEquals(5, simpleMeterRegistry.get("ascent.datasource.pool.resizes")
+                .tag("direction", "down")
+                .counter()
+                .count());
+    }
+
+    @Test
+    public void shrinkingBelowConfiguredSizeLetsIdleConnectionsRetire() {
+        adaptive.setTargetAcquireTime(Duration.ofSeconds(1));
+        assertEquals(10, hikariDataSource.getMinimumIdle());
+
+        poolSizeController.adjust();
+
+        assertEquals(9, hikariDataSource.getMaximumPoolSize());
+        assertTrue(hikariDataSource.getMinimumIdle() < hikariDataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    public void acquisitionsOnTargetKeepPoolSize() throws Exception {
+        adaptive.setTargetAcquireTime(Duration.ofSeconds(1));
+        adaptive.setMinimumPoolSize(10);
+
+        instrumentedDataSource.getConnection().close();
+        poolSizeController.adjust();
+
+        assertEquals(10, hikariDataSource.getMaximumPoolSize());
+        assertNull(simpleMeterRegistry.find("ascent.datasource.pool.resizes").counter());
+    }
+}
\ No newline at end of file
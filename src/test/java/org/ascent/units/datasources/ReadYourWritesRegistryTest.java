@@ -0,0 +1,44 @@
+package org.ascent.units.datasources;
+
+import org.ascent.datasources.ReadYourWritesRegistry;
+import org.ascent.properties.DataSourceRoutingProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadYourWritesRegistryTest {
+
+    private static ReadYourWritesRegistry readYourWritesRegistry(Duration window) {
+        DataSourceRoutingProperties dataSourceRoutingProperties = new DataSourceRoutingProperties();
+        dataSourceRoutingProperties.setReadYourWritesWindow(window);
+        return new ReadYourWritesRegistry(dataSourceRoutingProperties);
+    }
+
+    @Test
+    public void keyWithoutWriteIsNotRecent() {
+        ReadYourWritesRegistry readYourWritesRegistry = readYourWritesRegistry(Duration.ofMinutes(1));
+
+        assertFalse(readYourWritesRegistry.isRecent("username@email.com"));
+    }
+
+    @Test
+    public void keyWithWriteInsideWindowIsRecent() {
+        ReadYourWritesRegistry readYourWritesRegistry = readYourWritesRegistry(Duration.ofMinutes(1));
+
+        readYourWritesRegistry.recordWrite("username@email.com");
+
+        assertTrue(readYourWritesRegistry.isRecent("username@email.com"));
+        assertFalse(readYourWritesRegistry.isRecent("username2@email.com"));
+    }
+
+    @Test
+    public void keyWithWriteOutsideWindowIsNotRecent() {
+        ReadYourWritesRegistry readYourWritesRegistry = readYourWritesRegistry(Duration.ZERO);
+
+        readYourWritesRegistry.recordWrite("username@email.com");
+
+        assertFalse(readYourWritesRegistry.isRecent("username@email.com"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package org.ascent.units.datasources;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.datasources.DataSourceRouting;
+import org.ascent.datasources.ReplicaLagMonitor;
+import org.ascent.datasources.RoutingDataSource;
+import org.ascent.properties.DataSourceRoutingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoutingDataSourceTest {
+
+    private DataSourceRoutingProperties dataSourceRoutingProperties;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void beforeEach() {
+        DataSource primaryDataSource = database("primary");
+        DataSource replicaDataSource = database("replica");
+
+        dataSourceRoutingProperties = new DataSourceRoutingProperties();
+        dataSourceRoutingProperties.setMaxLag(Duration.ofSeconds(2));
+        dataSourceRoutingProperties.setLagQuery("SELECT 0 AS Seconds_Behind_Source");
+
+        simpleMeterRegistry = new SimpleMeterRegistry();
+        replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, dataSourceRoutingProperties, simpleMeterRegistry);
+        replicaLagMonitor.check();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new RoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, simpleMeterRegistry));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource driverManagerDataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(driverManagerDataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+
+        return driverManagerDataSource;
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private String node(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(transactionStatus -> node());
+    }
+
+    @Test
+    public void readOnlyTransactionIsRoutedToReplica() {
+        assertEquals("replica", node(true));
+    }
+
+    @Test
+    public void readWriteTransactionIsRoutedToPrimary() {
+        assertEquals("primary", node(false));
+    }
+
+    @Test
+    public void callOutsideTransactionIsRoutedToPrimary() {
+        assertEquals("primary", node());
+    }
+
+    @Test
+    public void readOnlyTransactionWithPrimaryForcedIsRoutedToPrimary() {
+        assertEquals("primary", DataSourceRouting.onPrimary(() -> node(true)));
+        assertFalse(DataSourceRouting.isPrimaryForced());
+    }
+
+    @Test
+    public void readOnlyTransactionWithLaggingReplicaIsRoutedToPrimary() {
+        dataSourceRoutingProperties.setLagQuery("SELECT 3 AS Seconds_Behind_Source");
+        replicaLagMonitor.check();
+
+        assertFalse(replicaLagMonitor.isReplicaAvailable());
+        assertEquals(3, replicaLagMonitor.getLagSeconds());
+        assertEquals("primary", node(true));
+    }
+
+    @Test
+    public void readOnlyTransactionWithUnreachableReplicaStatusIsRoutedToPrimary() {
+        dataSourceRoutingProperties.setLagQuery("SELECT * FROM replica_status");
+        replicaLagMonitor.check();
+
+        assertFalse(replicaLagMonitor.isReplicaAvailable());
+        assertEquals(-1, replicaLagMonitor.getLagSeconds());
+        assertEquals("primary", node(true));
+    }
+
+    @Test
+    public void readOnlyTransactionWithRecoveredReplicaIsRoutedToReplica() {
+        dataSourceRoutingProperties.setLagQuery("SELECT NULL AS Seconds_Behind_Source");
+        replicaLagMonitor.check();
+        assertEquals("primary", node(true));
+
+        dataSourceRoutingProperties.setLagQuery("SELECT 1 AS Seconds_Behind_Source");
+        replicaLagMonitor.check();
+        assertEquals("replica", node(true));
+    }
+
+    @Test
+    public void routedConnectionsAreCountedPerTarget() {
+        node(false);
+        double primary = simpleMeterRegistry.get("ascent.datasource.routing").tag("target", "primary").counter().count();
+
+        node(true);
+        node(true);
+        node(false);
+
+        assertEquals(2, simpleMeterRegistry.get("ascent.datasource.routing").tag("target", "replica").counter().count());
+        assertEquals(primary + 1, simpleMeterRegistry.get("ascent.datasource.routing").tag("target", "primary").counter().count());
+    }
+}
\ No newline at end of file
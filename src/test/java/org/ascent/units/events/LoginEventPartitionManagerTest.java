@@ -0,0 +1,112 @@
+package org.ascent.units.events;
+
+import org.ascent.events.LoginEventPartitionManager;
+import org.ascent.properties.LoginEventProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginEventPartitionManagerTest {
+
+    private LoginEventPartitionManager loginEventPartitionManager;
+
+    @BeforeEach
+    public void beforeEach() {
+        LoginEventProperties.Partitions partitions = new LoginEventProperties.Partitions();
+        partitions.setRetentionMonths(2);
+        partitions.setPrecreateMonths(1);
+
+        loginEventPartitionManager = new LoginEventPartitionManager(mock(JdbcTemplate.class), partitions,
+                Clock.systemUTC());
+    }
+
+    @Test
+    public void emptyTableCreatesCurrentAndPrecreatedMonths() {
+        List<String> statements = loginEventPartitionManager.plan(List.of("p_future"), YearMonth.of(2024, 12));
+
+        assertEquals(List.of(
+                "ALTER TABLE login_event REORGANIZE PARTITION p_future INTO (PARTITION p202412 VALUES LESS THAN "
+                        + "('2025-01-01 00:00:00'), PARTITION p_future VALUES LESS THAN (MAXVALUE))",
+                "ALTER TABLE login_event REORGANIZE PARTITION p_future INTO (PARTITION p202501 VALUES LESS THAN "
+                        + "('2025-02-01 00:00:00'), PARTITION p_future VALUES LESS THAN (MAXVALUE))"), statements);
+    }
+
+    @Test
+    public void partitionsOlderThanRetentionAreDropped() {
+        List<String> statements = loginEventPartitionManager.plan(
+                List.of("p202401", "p202402", "p202403", "p202404", "p202405", "p_future"), YearMonth.of(2024, 4));
+
+        assertEquals(List.of("ALTER TABLE login_event DROP PARTITION p202401"), statements);
+    }
+
+    @Test
+    public void onlyMissingMonthsAfterLatestPartitionAreCreated() {
+        List<String> statements = loginEventPartitionManager.plan(List.of("p202403", "p202404", "p_future"),
+                YearMonth.of(2024, 4));
+
+        assertEquals(1, statements.size());
+        assertTrue(statements.get(0).contains("PARTITION p202405 VALUES LESS THAN ('2024-06-01 00:00:00')"));
+    }
+
+    private static Statement mySql(DataSource dataSource, boolean locked) throws Exception {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        Statement statement = mock(Statement.class);
+        ResultSet lock = mock(ResultSet.class);
+        ResultSet partitions = mock(ResultSet.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("MySQL");
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT GET_LOCK('login_event_partitions', 0)")).thenReturn(lock);
+        when(statement.executeQuery(startsWith("SELECT PARTITION_NAME"))).thenReturn(partitions);
+        when(lock.next()).thenReturn(true);
+        when(lock.getInt(1)).thenReturn(locked ? 1 : 0);
+        when(partitions.next()).thenReturn(true, false);
+        when(partitions.getString(1)).thenReturn("p_future");
+
+        return statement;
+    }
+
+    private LoginEventPartitionManager loginEventPartitionManager(DataSource dataSource) {
+        LoginEventProperties.Partitions partitions = new LoginEventProperties.Partitions();
+        partitions.setPrecreateMonths(0);
+
+        return new LoginEventPartitionManager(new JdbcTemplate(dataSource), partitions, Clock.fixed(
+                Instant.parse("2024-12-15T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    public void maintenanceRunsUnderNamedLock() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Statement statement = mySql(dataSource, true);
+
+        loginEventPartitionManager(dataSource).maintain();
+
+        verify(statement).execute(startsWith("ALTER TABLE login_event REORGANIZE PARTITION p_future"));
+        verify(statement).execute("DO RELEASE_LOCK('login_event_partitions')");
+    }
+
+    @Test
+    public void maintenanceIsSkippedWhileAnotherNodeHoldsLock() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Statement statement = mySql(dataSource, false);
+
+        loginEventPartitionManager(dataSource).maintain();
+
+        verify(statement, never()).execute(anyString());
+        verify(statement, never()).executeQuery(startsWith("SELECT PARTITION_NAME"));
+    }
+}
\ No newline at end of file
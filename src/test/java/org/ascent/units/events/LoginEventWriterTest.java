@@ -0,0 +1,141 @@
+package org.ascent.units.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.enums.LoginOutcome;
+import org.ascent.events.LoginEventWriter;
+import org.ascent.generators.SnowflakeIdGenerator;
+import org.ascent.properties.LoginEventProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginEventWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private LoginEventProperties loginEventProperties;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    @BeforeEach
+    public void beforeEach() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:login_event;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS login_event");
+        jdbcTemplate.execute("CREATE TABLE login_event (id BIGINT, user_id BIGINT, email_canonical VARCHAR(255), "
+                + "ip_address VARCHAR(45), outcome VARCHAR(32), occurred_on TIMESTAMP(6))");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `user`");
+        jdbcTemplate.execute("CREATE TABLE `user` (id BIGINT PRIMARY KEY, last_login TIMESTAMP(6))");
+        jdbcTemplate.update("INSERT INTO `user` (id) VALUES (1), (2)");
+
+        loginEventProperties = new LoginEventProperties();
+        loginEventProperties.setQueueCapacity(4);
+        loginEventProperties.setBatchSize(2);
+        loginEventProperties.setLinger(Duration.ofMillis(10));
+
+        simpleMeterRegistry = new SimpleMeterRegistry();
+    }
+
+    private LoginEventWriter loginEventWriter() {
+        return new LoginEventWriter(loginEventProperties,
+                new SnowflakeIdGenerator(1, Instant.parse("2024-01-01T00:00:00Z"), Clock.systemUTC()),
+                jdbcTemplate, simpleMeterRegistry);
+    }
+
+    private int rows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM login_event", Integer.class);
+    }
+
+    private Instant lastLogin(long userId) {
+        return jdbcTemplate.queryForObject("SELECT last_login FROM `user` WHERE id = ?", Instant.class, userId);
+    }
+
+    private double count(String result) {
+        return simpleMeterRegistry.get("ascent.login.events").tag("result", result).counter().count();
+    }
+
+    @Test
+    public void recordedEventsAreWrittenInBatches() {
+        LoginEventWriter loginEventWriter = loginEventWriter();
+        loginEventWriter.start();
+
+        loginEventWriter.record(1L, "username@email.com", "127.0.0.1", LoginOutcome.SUCCESS);
+        loginEventWriter.record(null, "unknown@email.com", "127.0.0.1", LoginOutcome.INVALID_CREDENTIALS);
+        loginEventWriter.record(1L, "username@email.com", "127.0.0.1", LoginOutcome.DISABLED);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> rows() == 3);
+        loginEventWriter.stop();
+
+        assertEquals(3, count("written"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_event WHERE user_id IS NULL AND outcome = 'INVALID_CREDENTIALS'",
+                Integer.class));
+    }
+
+    @Test
+    public void successfulEventsUpdateLastLogin() {
+        LoginEventWriter loginEventWriter = loginEventWriter();
+
+        loginEventWriter.record(1L, "username@email.com", "127.0.0.1", LoginOutcome.SUCCESS);
+        loginEventWriter.record(1L, "username@email.com", "127.0.0.1", LoginOutcome.SUCCESS);
+        loginEventWriter.record(2L, "username2@email.com", "127.0.0.1", LoginOutcome.INVALID_CREDENTIALS);
+
+        loginEventWriter.start();
+        loginEventWriter.stop();
+
+        assertEquals(jdbcTemplate.queryForObject(
+                "SELECT MAX(occurred_on) FROM login_event WHERE user_id = 1", Instant.class), lastLogin(1));
+        assertNull(lastLogin(2));
+    }
+
+    @Test
+    public void lastLoginIsNotMovedBackwards() {
+        Instant future = Instant.parse("2999-01-01T00:00:00Z");
+        jdbcTemplate.update("UPDATE `user` SET last_login = ? WHERE id = 1", Timestamp.from(future));
+
+        LoginEventWriter loginEventWriter = loginEventWriter();
+        loginEventWriter.record(1L, "username@email.com", "127.0.0.1", LoginOutcome.SUCCESS);
+
+        loginEventWriter.start();
+        loginEventWriter.stop();
+
+        assertEquals(1, rows());
+        assertEquals(future, lastLogin(1));
+    }
+
+    @Test
+    public void eventsBeyondQueueCapacityAreDropped() {
+        LoginEventWriter loginEventWriter = loginEventWriter();
+
+        for (int i = 0; i < 6; i++) {
+            loginEventWriter.record(1L, "username@email.com", "127.0.0.1", LoginOutcome.SUCCESS);
+        }
+
+        assertEquals(2, count("dropped"));
+        assertEquals(4, simpleMeterRegistry.get("ascent.login.events.queued").gauge().value());
+    }
+
+    @Test
+    public void stopDrainsQueuedEvents() {
+        LoginEventWriter loginEventWriter = loginEventWriter();
+
+        for (int i = 0; i < 4; i++) {
+            loginEventWriter.record(1L, "username@email.com", "127.0.0.1", LoginOutcome.SUCCESS);
+        }
+
+        loginEventWriter.start();
+        loginEventWriter.stop();
+
+        assertFalse(loginEventWriter.isRunning());
+        assertEquals(4, rows());
+    }
+}
\ No newline at end of file
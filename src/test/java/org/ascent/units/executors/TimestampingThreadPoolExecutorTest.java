@@ -0,0 +1,74 @@
+package org.ascent.units.executors;
+
+import org.ascent.executors.TimestampingThreadPoolExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimestampingThreadPoolExecutorTest {
+
+    private TimestampingThreadPoolExecutor timestampingThreadPoolExecutor;
+
+    @BeforeEach
+    public void beforeEach() {
+        timestampingThreadPoolExecutor = new TimestampingThreadPoolExecutor("test-exec-", 1, 1);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        timestampingThreadPoolExecutor.shutdownNow();
+    }
+
+    @Test
+    public void queueDelayIsUnknownOutsideExecutor() {
+        assertEquals(-1, TimestampingThreadPoolExecutor.takeQueueDelayNanos(System.nanoTime()));
+    }
+
+    @Test
+    public void queuedTaskSeesTimeSpentWaitingForThread() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicLong delay = new AtomicLong();
+
+        timestampingThreadPoolExecutor.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        timestampingThreadPoolExecutor.execute(() -> {
+            delay.set(TimestampingThreadPoolExecutor.takeQueueDelayNanos(System.nanoTime()));
+            done.countDown();
+        });
+
+        Thread.sleep(100);
+        blocker.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(delay.get() >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void queueDelayIsTakenOncePerTask() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicLong first = new AtomicLong();
+        AtomicLong second = new AtomicLong();
+
+        timestampingThreadPoolExecutor.execute(() -> {
+            first.set(TimestampingThreadPoolExecutor.takeQueueDelayNanos(System.nanoTime()));
+            second.set(TimestampingThreadPoolExecutor.takeQueueDelayNanos(System.nanoTime()));
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(first.get() >= 0);
+        assertEquals(-1, second.get());
+    }
+}
\ No newline at end of file
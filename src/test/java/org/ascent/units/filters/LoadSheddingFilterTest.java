@@ -0,0 +1,154 @@
+package org.ascent.units.filters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.ascent.audits.AuditLog;
+import org.ascent.enums.AuditType;
+import org.ascent.filters.LoadSheddingFilter;
+import org.ascent.properties.LoadSheddingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadSheddingFilterTest {
+
+    private AuditLog mockAuditLog;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    private LoadSheddingProperties loadSheddingProperties;
+
+    private LoadSheddingFilter loadSheddingFilter;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockAuditLog = mock();
+        simpleMeterRegistry = new SimpleMeterRegistry();
+        loadSheddingProperties = new LoadSheddingProperties();
+        loadSheddingProperties.setRequestStartHeader("X-Request-Start");
+        loadSheddingProperties.setTrustedProxies(List.of("127.0.0.1", "10.0.0.0/8"));
+        loadSheddingFilter = new LoadSheddingFilter(loadSheddingProperties, mockAuditLog, simpleMeterRegistry);
+    }
+
+    @Test
+    public void requestStartHeaderFormatsAreParsed() {
+        assertEquals(1700000000123L, LoadSheddingFilter.requestStartMillis("t=1700000000123"));
+        assertEquals(1700000000123L, LoadSheddingFilter.requestStartMillis("t=1700000000123456"));
+        assertEquals(1700000000123L, LoadSheddingFilter.requestStartMillis("1700000000123456789"));
+        assertEquals(1700000000123L, LoadSheddingFilter.requestStartMillis("t=1700000000.123"));
+        assertEquals(1700000000000L, LoadSheddingFilter.requestStartMillis("1700000000"));
+        assertEquals(-1, LoadSheddingFilter.requestStartMillis("t=yesterday"));
+        assertEquals(-1, LoadSheddingFilter.requestStartMillis(null));
+    }
+
+    @Test
+    public void requestWithoutTimestampPassesThrough() throws Exception {
+        MockFilterChain mockFilterChain = new MockFilterChain();
+        MockHttpServletResponse mockHttpServletResponse = new MockHttpServletResponse();
+
+        loadSheddingFilter.doFilter(new MockHttpServletRequest("POST", "/login"), mockHttpServletResponse,
+                mockFilterChain);
+
+        assertNotNull(mockFilterChain.getRequest());
+        assertEquals(200, mockHttpServletResponse.getStatus());
+        assertEquals(1, simpleMeterRegistry.get("ascent.load.shedding.requests").tag("result", "admitted")
+                .counter().count());
+    }
+
+    @Test
+    public void freshRequestPassesThrough() throws Exception {
+        MockFilterChain mockFilterChain = new MockFilterChain();
+
+        loadSheddingFilter.doFilter(request("/login", System.currentTimeMillis()), new MockHttpServletResponse(),
+                mockFilterChain);
+
+        assertNotNull(mockFilterChain.getRequest());
+        assertEquals(1, simpleMeterRegistry.get("ascent.load.shedding.queue.delay").timer().count());
+    }
+
+    @Test
+    public void staleRequestIsDroppedBeforeReachingChain() throws Exception {
+        MockFilterChain mockFilterChain = new MockFilterChain();
+        MockHttpServletResponse mockHttpServletResponse = new MockHttpServletResponse();
+
+        loadSheddingFilter.doFilter(request("/login", System.currentTimeMillis() - 5000), mockHttpServletResponse,
+                mockFilterChain);
+
+        assertNull(mockFilterChain.getRequest());
+        assertEquals(503, mockHttpServletResponse.getStatus());
+        assertEquals("1", mockHttpServletResponse.getHeader("Retry-After"));
+        assertEquals(0, mockHttpServletResponse.getContentLength());
+        assertEquals(1, simpleMeterRegistry.get("ascent.load.shedding.requests").tag("result", "dropped")
+                .counter().count());
+        verify(mockAuditLog, times(1)).record(any(HttpServletRequest.class), eq(AuditType.THROTTLED));
+    }
+
+    @Test
+    public void requestStartHeaderFromUntrustedAddressIsIgnored() throws Exception {
+        MockFilterChain mockFilterChain = new MockFilterChain();
+        MockHttpServletRequest mockHttpServletRequest = request("/login", System.currentTimeMillis() - 5000);
+        mockHttpServletRequest.setRemoteAddr("203.0.113.7");
+
+        loadSheddingFilter.doFilter(mockHttpServletRequest, new MockHttpServletResponse(), mockFilterChain);
+
+        assertNotNull(mockFilterChain.getRequest());
+        assertEquals(0, simpleMeterRegistry.get("ascent.load.shedding.queue.delay").timer().count());
+        verifyNoInteractions(mockAuditLog);
+    }
+
+    @Test
+    public void requestStartHeaderFromTrustedRangeIsUsed() throws Exception {
+        MockFilterChain mockFilterChain = new MockFilterChain();
+        MockHttpServletRequest mockHttpServletRequest = request("/login", System.currentTimeMillis() - 5000);
+        mockHttpServletRequest.setRemoteAddr("10.1.2.3");
+
+        loadSheddingFilter.doFilter(mockHttpServletRequest, new MockHttpServletResponse(), mockFilterChain);
+
+        assertNull(mockFilterChain.getRequest());
+    }
+
+    @Test
+    public void requestStartHeaderIsIgnoredByDefault() throws Exception {
+        LoadSheddingFilter defaultLoadSheddingFilter = new LoadSheddingFilter(new LoadSheddingProperties(),
+                mockAuditLog, new SimpleMeterRegistry());
+        MockFilterChain mockFilterChain = new MockFilterChain();
+
+        defaultLoadSheddingFilter.doFilter(request("/login", System.currentTimeMillis() - 5000),
+                new MockHttpServletResponse(), mockFilterChain);
+
+        assertNotNull(mockFilterChain.getRequest());
+        verifyNoInteractions(mockAuditLog);
+    }
+
+    @Test
+    public void excludedPathsAndDisabledFilterAreNeverDropped() throws Exception {
+        MockFilterChain mockFilterChain = new MockFilterChain();
+
+        loadSheddingFilter.doFilter(request("/actuator/health", System.currentTimeMillis() - 5000),
+                new MockHttpServletResponse(), mockFilterChain);
+
+        assertNotNull(mockFilterChain.getRequest());
+
+        loadSheddingProperties.setEnabled(false);
+        mockFilterChain = new MockFilterChain();
+
+        loadSheddingFilter.doFilter(request("/login", System.currentTimeMillis() - 5000),
+                new MockHttpServletResponse(), mockFilterChain);
+
+        assertNotNull(mockFilterChain.getRequest());
+        verifyNoInteractions(mockAuditLog);
+    }
+
+    private static MockHttpServletRequest request(String path, long startMillis) {
+        MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest("POST", path);
+        mockHttpServletRequest.addHeader("X-Request-Start", "t=" + startMillis);
+        return mockHttpServletRequest;
+    }
+}
\ No newline at end of file
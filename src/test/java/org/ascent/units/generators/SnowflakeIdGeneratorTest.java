@@ -0,0 +1,108 @@
+package org.ascent.units.generators;
+
+import org.ascent.generators.SnowflakeIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnowflakeIdGeneratorTest {
+
+    private final static Instant epoch = Instant.parse("2024-01-01T00:00:00Z");
+
+    private MutableClock mutableClock;
+
+    @BeforeEach
+    public void beforeEach() {
+        mutableClock = new MutableClock(epoch.plusSeconds(3600).toEpochMilli());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, SnowflakeIdGenerator.maxNodeId + 1})
+    public void nodeIdOutOfRangeThrowsIllegalArgumentException(int nodeId) {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(nodeId, epoch, mutableClock));
+    }
+
+    @Test
+    public void idsEncodeTimestampAndNode() {
+        SnowflakeIdGenerator snowflakeIdGenerator = new SnowflakeIdGenerator(5, epoch, mutableClock);
+
+        long id = snowflakeIdGenerator.nextId();
+
+        assertEquals(5, (id >>> SnowflakeIdGenerator.sequenceBits) & SnowflakeIdGenerator.maxNodeId);
+        assertEquals(epoch.plusSeconds(3600), snowflakeIdGenerator.timestampOf(id));
+    }
+
+    @Test
+    public void idsAreIncreasingWithinSameMillisecond() {
+        SnowflakeIdGenerator snowflakeIdGenerator = new SnowflakeIdGenerator(0, epoch, mutableClock);
+
+        long previous = snowflakeIdGenerator.nextId();
+        for (int i = 0; i < 10000; i++) {
+            long id = snowflakeIdGenerator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    public void idsAreIncreasingWhenClockMovesBackwards() {
+        SnowflakeIdGenerator snowflakeIdGenerator = new SnowflakeIdGenerator(0, epoch, mutableClock);
+
+        long id = snowflakeIdGenerator.nextId();
+        mutableClock.millis -= 1000;
+
+        assertTrue(snowflakeIdGenerator.nextId() > id);
+    }
+
+    @Test
+    public void idsFromDifferentNodesDoNotCollide() {
+        SnowflakeIdGenerator snowflakeIdGenerator = new SnowflakeIdGenerator(1, epoch, mutableClock);
+        SnowflakeIdGenerator snowflakeIdGenerator2 = new SnowflakeIdGenerator(2, epoch, mutableClock);
+
+        assertNotEquals(snowflakeIdGenerator.nextId(), snowflakeIdGenerator2.nextId());
+    }
+
+    @Test
+    public void idsAreGreaterThanAutoIncrementIds() {
+        SnowflakeIdGenerator snowflakeIdGenerator = new SnowflakeIdGenerator(0, epoch, Clock.systemUTC());
+
+        assertTrue(snowflakeIdGenerator.nextId() > Integer.MAX_VALUE * 1000L);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package org.ascent.units.handlers;
+
+import org.ascent.audits.AuditLog;
+import org.ascent.enums.AuditType;
+import org.ascent.exceptions.InvalidCredentialsException;
+import org.ascent.exceptions.UserDisabledException;
+import org.ascent.handlers.LoginHandler;
+import org.ascent.managers.ReactiveLoginManager;
+import org.ascent.requests.LoginRequest;
+import org.ascent.validators.CredentialValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.mock.web.server.MockWebSession;
+import org.springframework.web.reactive.function.server.RenderingResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class LoginHandlerTest {
+
+    private LoginHandler loginHandler;
+
+    @Mock
+    private CredentialValidator mockCredentialValidator;
+
+    @Mock
+    private ReactiveLoginManager mockReactiveLoginManager;
+
+    @Mock
+    private AuditLog mockAuditLog;
+
+    @BeforeEach
+    public void beforeEach() {
+        loginHandler = new LoginHandler(mockCredentialValidator, mockReactiveLoginManager, mockAuditLog);
+    }
+
+    @Test
+    public void validLoginRendersSuccessFragment() {
+        when(mockReactiveLoginManager.login(any(), any(), any(), anyBoolean())).thenReturn(Mono.empty());
+
+        ServerResponse serverResponse = loginHandler.login(serverRequest()).block();
+
+        assertEquals(HttpStatus.OK, serverResponse.statusCode());
+        assertEquals("responses/login_response :: success", ((RenderingResponse) serverResponse).name());
+        verify(mockReactiveLoginManager, times(1)).login(any(), any(), eq("127.0.0.1"), eq(true));
+        verify(mockAuditLog, times(1)).record(AuditType.LOGIN_SUCCESS, "127.0.0.1", "email@email.com");
+    }
+
+    @Test
+    public void validMinimalLoginReturnsNoContentWithTrigger() {
+        when(mockReactiveLoginManager.login(any(), any(), any(), anyBoolean())).thenReturn(Mono.empty());
+
+        ServerResponse serverResponse = loginHandler.loginMinimal(serverRequest()).block();
+
+        assertEquals(HttpStatus.NO_CONTENT, serverResponse.statusCode());
+        assertEquals("auth-changed", serverResponse.headers().getFirst("HX-Trigger"));
+        assertEquals("return=minimal", serverResponse.headers().getFirst("Preference-Applied"));
+    }
+
+    @Test
+    public void invalidCredentialsRendersUnauthorizedFragment() {
+        when(mockReactiveLoginManager.login(any(), any(), any(), anyBoolean()))
+                .thenReturn(Mono.error(new InvalidCredentialsException()));
+
+        ServerResponse serverResponse = loginHandler.login(serverRequest()).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, serverResponse.statusCode());
+        assertEquals("responses/login_response :: invalid_credentials", ((RenderingResponse) serverResponse).name());
+        verify(mockAuditLog, times(1)).record(AuditType.LOGIN_INVALID_CREDENTIALS, "127.0.0.1", "email@email.com");
+    }
+
+    @Test
+    public void disabledUserRendersUnauthorizedFragment() {
+        when(mockReactiveLoginManager.login(any(), any(), any(), anyBoolean()))
+                .thenReturn(Mono.error(new UserDisabledException()));
+
+        ServerResponse serverResponse = loginHandler.login(serverRequest()).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, serverResponse.statusCode());
+        assertEquals("responses/login_response :: user_disabled", ((RenderingResponse) serverResponse).name());
+        verify(mockAuditLog, times(1)).record(AuditType.LOGIN_USER_DISABLED, "127.0.0.1", "email@email.com");
+    }
+
+    @Test
+    public void missingBodyRendersErrorFragment() {
+        MockServerRequest mockServerRequest = MockServerRequest.builder()
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .remoteAddress(new InetSocketAddress("127.0.0.1", 8080))
+                .session(new MockWebSession())
+                .body(Mono.empty());
+
+        ServerResponse serverResponse = loginHandler.login(mockServerRequest).block();
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, serverResponse.statusCode());
+        assertEquals("responses/login_response :: error", ((RenderingResponse) serverResponse).name());
+        verifyNoInteractions(mockReactiveLoginManager);
+        verify(mockAuditLog, times(1)).record(AuditType.LOGIN_ERROR, "127.0.0.1", null);
+    }
+
+    private static MockServerRequest serverRequest() {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("Email@Email.com");
+        loginRequest.setPassword("password");
+
+        return MockServerRequest.builder()
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .remoteAddress(new InetSocketAddress("127.0.0.1", 8080))
+                .session(new MockWebSession())
+                .body(Mono.just(loginRequest));
+    }
+}
\ No newline at end of file
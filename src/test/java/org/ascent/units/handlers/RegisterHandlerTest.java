@@ -0,0 +1,106 @@
+package org.ascent.units.handlers;
+
+import org.ascent.audits.AuditLog;
+import org.ascent.enums.AuditType;
+import org.ascent.exceptions.EmailAlreadyInUseException;
+import org.ascent.exceptions.InvalidPasswordException;
+import org.ascent.exceptions.UsernameAlreadyInUseException;
+import org.ascent.handlers.RegisterHandler;
+import org.ascent.managers.ReactiveRegisterManager;
+import org.ascent.requests.RegisterRequest;
+import org.ascent.validators.CredentialValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.RenderingResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class RegisterHandlerTest {
+
+    private RegisterHandler registerHandler;
+
+    @Mock
+    private CredentialValidator mockCredentialValidator;
+
+    @Mock
+    private ReactiveRegisterManager mockReactiveRegisterManager;
+
+    @Mock
+    private AuditLog mockAuditLog;
+
+    @BeforeEach
+    public void beforeEach() {
+        registerHandler = new RegisterHandler(mockCredentialValidator, mockReactiveRegisterManager, mockAuditLog);
+    }
+
+    @Test
+    public void validRegisterRendersCreatedFragment() {
+        when(mockReactiveRegisterManager.register(any())).thenReturn(Mono.empty());
+
+        ServerResponse serverResponse = registerHandler.register(serverRequest()).block();
+
+        assertEquals(HttpStatus.CREATED, serverResponse.statusCode());
+        assertEquals("responses/register_response :: success", ((RenderingResponse) serverResponse).name());
+        verify(mockAuditLog, times(1)).record(AuditType.REGISTER_SUCCESS, "127.0.0.1", "username");
+    }
+
+    @Test
+    public void invalidPasswordRendersBadRequestFragment() {
+        doThrow(new InvalidPasswordException()).when(mockCredentialValidator).validate(any(RegisterRequest.class));
+
+        ServerResponse serverResponse = registerHandler.register(serverRequest()).block();
+
+        assertEquals(HttpStatus.BAD_REQUEST, serverResponse.statusCode());
+        assertEquals("responses/register_response :: invalid_password", ((RenderingResponse) serverResponse).name());
+        verifyNoInteractions(mockReactiveRegisterManager);
+        verify(mockAuditLog, times(1)).record(AuditType.REGISTER_REJECTED, "127.0.0.1", "username");
+    }
+
+    @Test
+    public void usernameInUseRendersConflictFragment() {
+        when(mockReactiveRegisterManager.register(any()))
+                .thenReturn(Mono.error(new UsernameAlreadyInUseException()));
+
+        ServerResponse serverResponse = registerHandler.register(serverRequest()).block();
+
+        assertEquals(HttpStatus.CONFLICT, serverResponse.statusCode());
+        assertEquals("responses/register_response :: username_already_in_use",
+                ((RenderingResponse) serverResponse).name());
+        verify(mockAuditLog, times(1)).record(AuditType.REGISTER_CONFLICT, "127.0.0.1", "username");
+    }
+
+    @Test
+    public void emailInUseReturnsConflictForMinimalRegister() {
+        when(mockReactiveRegisterManager.register(any()))
+                .thenReturn(Mono.error(new EmailAlreadyInUseException()));
+
+        ServerResponse serverResponse = registerHandler.registerMinimal(serverRequest()).block();
+
+        assertEquals(HttpStatus.CONFLICT, serverResponse.statusCode());
+        assertEquals("responses/register_response :: email_already_in_use",
+                ((RenderingResponse) serverResponse).name());
+    }
+
+    private static MockServerRequest serverRequest() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setUsername("username");
+        registerRequest.setEmail("email@email.com");
+        registerRequest.setPassword("password");
+
+        return MockServerRequest.builder()
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .remoteAddress(new InetSocketAddress("127.0.0.1", 8080))
+                .body(Mono.just(registerRequest));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package org.ascent.units.imports;
+
+import org.ascent.imports.CsvImportReader;
+import org.ascent.requests.ImportRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.*;
+
+public class CsvImportReaderTest {
+
+    private static CsvImportReader reader(String content) throws Exception {
+        return new CsvImportReader(new BufferedReader(new StringReader(content)));
+    }
+
+    private static Stream<Arguments> splitReturnsColumns() {
+        return Stream.of(
+                arguments("a,b,c", List.of("a", "b", "c")),
+                arguments("a,,c", List.of("a", "", "c")),
+                arguments("\"a,b\",c", List.of("a,b", "c")),
+                arguments("\"a\"\"b\",c", List.of("a\"b", "c")),
+                arguments("a,", List.of("a", ""))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void splitReturnsColumns(String value, List<String> columns) {
+        assertEquals(columns, CsvImportReader.split(value));
+    }
+
+    @Test
+    public void splitWithUnterminatedQuoteThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CsvImportReader.split("\"a,b"));
+    }
+
+    @Test
+    public void headerWithoutPasswordThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> reader("username,email\n"));
+    }
+
+    @Test
+    public void rowsAreMappedByHeaderInAnyOrder() throws Exception {
+        CsvImportReader csvImportReader = reader("﻿Email,password_hash,Username\n"
+                + "username@email.com,$2a$10$hash,username\n"
+                + "\n"
+                + "username2@email.com,,username2\n");
+
+        ImportRequest importRequest = csvImportReader.next();
+        assertEquals("username", importRequest.getUsername());
+        assertEquals("username@email.com", importRequest.getEmail());
+        assertEquals("$2a$10$hash", importRequest.getPasswordHash());
+        assertNull(importRequest.getPassword());
+        assertEquals(2, csvImportReader.getLine());
+
+        ImportRequest importRequest2 = csvImportReader.next();
+        assertEquals("username2", importRequest2.getUsername());
+        assertNull(importRequest2.getPasswordHash());
+        assertEquals(4, csvImportReader.getLine());
+
+        assertNull(csvImportReader.next());
+    }
+
+    @Test
+    public void quotedFieldWithEmbeddedNewlineSpansLines() throws Exception {
+        CsvImportReader csvImportReader = reader("username,email,password\n"
+                + "\"user\nname\",username@email.com,\"pass\r\n\n\"\"word\"\n"
+                + "username2,username2@email.com,password\n");
+
+        ImportRequest importRequest = csvImportReader.next();
+        assertEquals("user\nname", importRequest.getUsername());
+        assertEquals("username@email.com", importRequest.getEmail());
+        assertEquals("pass\n\n\"word", importRequest.getPassword());
+        assertEquals(2, csvImportReader.getLine());
+
+        ImportRequest importRequest2 = csvImportReader.next();
+        assertEquals("username2", importRequest2.getUsername());
+        assertEquals(6, csvImportReader.getLine());
+
+        assertNull(csvImportReader.next());
+    }
+
+    @Test
+    public void quotedFieldUnterminatedAtEndOfInputThrowsIllegalArgumentException() throws Exception {
+        CsvImportReader csvImportReader = reader("username,email,password\n"
+                + "username,username@email.com,\"pass\nword\n");
+
+        assertThrows(IllegalArgumentException.class, csvImportReader::next);
+        assertEquals(2, csvImportReader.getLine());
+        assertNull(csvImportReader.next());
+    }
+
+    @Test
+    public void quotedFieldLongerThanRecordLimitThrowsIllegalArgumentException() throws Exception {
+        CsvImportReader csvImportReader = reader("username,email,password\n"
+                + "username,username@email.com,\"pass\n"
+                + "x".repeat(70000) + "\n"
+                + "username2,username2@email.com,password\n");
+
+        assertThrows(IllegalArgumentException.class, csvImportReader::next);
+        assertEquals("username2", csvImportReader.next().getUsername());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package org.ascent.units.imports;
+
+import org.ascent.imports.FingerprintSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FingerprintSetTest {
+
+    @Test
+    public void addedValueIsContained() {
+        FingerprintSet fingerprintSet = new FingerprintSet();
+
+        assertTrue(fingerprintSet.add("username@email.com"));
+
+        assertTrue(fingerprintSet.contains("username@email.com"));
+        assertFalse(fingerprintSet.contains("username2@email.com"));
+    }
+
+    @Test
+    public void addedDuplicateIsRejected() {
+        FingerprintSet fingerprintSet = new FingerprintSet();
+
+        assertTrue(fingerprintSet.add("username@email.com"));
+        assertFalse(fingerprintSet.add("username@email.com"));
+        assertEquals(1, fingerprintSet.size());
+    }
+
+    @Test
+    public void valuesSurviveGrowth() {
+        FingerprintSet fingerprintSet = new FingerprintSet();
+
+        for (int i = 0; i < 200000; i++) {
+            assertTrue(fingerprintSet.add("username" + i + "@email.com"));
+        }
+
+        assertEquals(200000, fingerprintSet.size());
+        for (int i = 0; i < 200000; i++) {
+            assertTrue(fingerprintSet.contains("username" + i + "@email.com"));
+        }
+        assertFalse(fingerprintSet.contains("username200000@email.com"));
+    }
+}
\ No newline at end of file
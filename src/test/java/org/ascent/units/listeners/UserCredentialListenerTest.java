@@ -0,0 +1,67 @@
+package org.ascent.units.listeners;
+
+import org.ascent.caches.CredentialCache;
+import org.ascent.entities.User;
+import org.ascent.listeners.UserCredentialListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+
+public class UserCredentialListenerTest {
+
+    @AfterEach
+    public void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static UserCredentialListener listener(CredentialCache credentialCache) {
+        ObjectProvider<CredentialCache> credentialCacheProvider = mock();
+        when(credentialCacheProvider.getIfAvailable()).thenReturn(credentialCache);
+        return new UserCredentialListener(credentialCacheProvider);
+    }
+
+    @Test
+    public void updateInvalidatesCurrentEmailImmediatelyAndAfterCommit() {
+        CredentialCache mockCredentialCache = mock();
+        User mockUser = mock();
+        when(mockUser.getEmailCanonical()).thenReturn("username@email.com");
+        when(mockUser.getLoadedEmailCanonical()).thenReturn("username@email.com");
+
+        TransactionSynchronizationManager.initSynchronization();
+        listener(mockCredentialCache).invalidate(mockUser);
+
+        verify(mockCredentialCache, times(1)).invalidate("username@email.com");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(mockCredentialCache, times(2)).invalidate("username@email.com");
+    }
+
+    @Test
+    public void emailChangeInvalidatesPreviousEmail() {
+        CredentialCache mockCredentialCache = mock();
+        User mockUser = mock();
+        when(mockUser.getEmailCanonical()).thenReturn("new@email.com");
+        when(mockUser.getLoadedEmailCanonical()).thenReturn("old@email.com");
+
+        listener(mockCredentialCache).invalidate(mockUser);
+
+        verify(mockCredentialCache, times(1)).invalidate("new@email.com");
+        verify(mockCredentialCache, times(1)).invalidate("old@email.com");
+    }
+
+    @Test
+    public void missingCacheIsIgnored() {
+        User mockUser = mock();
+
+        listener(null).invalidate(mockUser);
+
+        verifyNoInteractions(mockUser);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package org.ascent.units.managers;
+
+import org.ascent.directories.DirectoryPage;
+import org.ascent.directories.DirectoryRow;
+import org.ascent.enums.DirectoryField;
+import org.ascent.managers.DirectoryManager;
+import org.ascent.properties.DirectoryProperties;
+import org.ascent.requests.DirectoryRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DirectoryManagerTest {
+
+    private DirectoryManager directoryManager;
+
+    @BeforeEach
+    public void beforeEach() {
+        DriverManagerDataSource driverManagerDataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:directory;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(driverManagerDataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `user`");
+        jdbcTemplate.execute("CREATE TABLE `user` (id BIGINT PRIMARY KEY, username VARCHAR_IGNORECASE(255), "
+                + "email VARCHAR(255), email_canonical VARCHAR(255), password VARCHAR(60), role VARCHAR(16), "
+                + "disabled BOOLEAN, created_on TIMESTAMP, last_login TIMESTAMP)");
+
+        insert(jdbcTemplate, 1, "alice", "Alice@Email.com", "2024-01-01T00:00:00Z");
+        insert(jdbcTemplate, 2, "bob", "bob@email.com", "2024-01-02T00:00:00Z");
+        insert(jdbcTemplate, 3, "Alan", "alan@email.com", "2024-01-02T00:00:00Z");
+        insert(jdbcTemplate, 4, "al_x", "al_x@email.com", "2024-01-02T00:00:00Z");
+        insert(jdbcTemplate, 5, "albert", "albert@email.com", "2024-01-03T00:00:00Z");
+
+        jdbcTemplate.update("UPDATE `user` SET last_login = ? WHERE id = 5",
+                Timestamp.from(Instant.parse("2024-02-03T00:00:00Z")));
+
+        DirectoryProperties directoryProperties = new DirectoryProperties();
+        directoryProperties.setPageSize(2);
+
+        directoryManager = new DirectoryManager(directoryProperties, new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, long id, String username, String email, String createdOn) {
+        jdbcTemplate.update("INSERT INTO `user` (id, username, email, email_canonical, password, role, disabled, "
+                        + "created_on) VALUES (?, ?, ?, ?, 'secret', 'USER', false, ?)",
+                id, username, email, email.toLowerCase(), Timestamp.from(Instant.parse(createdOn)));
+    }
+
+    private List<String> usernames(DirectoryRequest directoryRequest) {
+        List<String> usernames = new ArrayList<>();
+        int pages = 0;
+
+        while (directoryRequest != null) {
+            DirectoryPage directoryPage = directoryManager.page(directoryRequest);
+            directoryPage.getRows().stream().map(DirectoryRow::getUsername).forEach(usernames::add);
+            directoryRequest = directoryPage.getNext();
+            assertTrue(++pages <= 5);
+        }
+
+        return usernames;
+    }
+
+    @Test
+    public void pagesListNewestUsersFirstAcrossEqualCreatedOn() {
+        assertEquals(List.of("albert", "al_x", "Alan", "bob", "alice"), usernames(new DirectoryRequest()));
+    }
+
+    @Test
+    public void firstPageHasNextCursorAtLastRow() {
+        DirectoryPage directoryPage = directoryManager.page(new DirectoryRequest());
+
+        assertEquals(2, directoryPage.getRows().size());
+        assertEquals(4L, directoryPage.getNext().getAfterId());
+        assertEquals(Instant.parse("2024-01-02T00:00:00Z"), directoryPage.getNext().getAfterCreatedOn());
+    }
+
+    @Test
+    public void usernameSearchMatchesPrefixCaseInsensitivelyInUsernameOrder() {
+        DirectoryRequest directoryRequest = new DirectoryRequest();
+        directoryRequest.setSearch(" AL ");
+
+        assertEquals(List.of("al_x", "Alan", "albert", "alice"), usernames(directoryRequest));
+    }
+
+    @Test
+    public void searchEscapesLikeWildcards() {
+        DirectoryRequest directoryRequest = new DirectoryRequest();
+        directoryRequest.setSearch("al_");
+
+        assertEquals(List.of("al_x"), usernames(directoryRequest));
+    }
+
+    @Test
+    public void emailSearchMatchesCanonicalPrefix() {
+        DirectoryRequest directoryRequest = new DirectoryRequest();
+        directoryRequest.setField(DirectoryField.EMAIL);
+        directoryRequest.setSearch("ALI");
+
+        DirectoryPage directoryPage = directoryManager.page(directoryRequest);
+
+        assertEquals(1, directoryPage.getRows().size());
+        assertEquals("Alice@Email.com", directoryPage.getRows().get(0).getEmail());
+        assertNull(directoryPage.getNext());
+    }
+
+    @Test
+    public void lastLoginIsLatestSuccessfulLoginEvent() {
+        List<DirectoryRow> rows = directoryManager.page(new DirectoryRequest()).getRows();
+
+        assertEquals("albert", rows.get(0).getUsername());
+        assertEquals(Instant.parse("2024-02-03T00:00:00Z"), rows.get(0).getLastLogin());
+        assertNull(rows.get(1).getLastLogin());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package org.ascent.units.managers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.enums.Role;
+import org.ascent.managers.ExportManager;
+import org.ascent.properties.ExportProperties;
+import org.ascent.requests.ExportRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExportManagerTest {
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    private ExportManager exportManager;
+
+    @BeforeEach
+    public void beforeEach() {
+        DriverManagerDataSource driverManagerDataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:export;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(driverManagerDataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `user`");
+        jdbcTemplate.execute("CREATE TABLE `user` (id BIGINT PRIMARY KEY, username VARCHAR(255), email VARCHAR(255), "
+                + "email_canonical VARCHAR(255), password VARCHAR(60), role VARCHAR(16), disabled BOOLEAN, "
+                + "created_on TIMESTAMP, last_login TIMESTAMP)");
+
+        insert(jdbcTemplate, 5, "username5", "USER", false, "2024-01-02T00:00:00Z");
+        insert(jdbcTemplate, 1, "username1", "ADMIN", false, "2024-01-03T00:00:00Z");
+        insert(jdbcTemplate, 4, "username4", "USER", true, "2024-01-02T00:00:00Z");
+        insert(jdbcTemplate, 2, "username2", "USER", false, "2024-01-01T00:00:00Z");
+        insert(jdbcTemplate, 3, "user,\"name\"3", "USER", false, "2024-01-02T00:00:00Z");
+
+        ExportProperties exportProperties = new ExportProperties();
+        exportProperties.setPageSize(2);
+        exportProperties.setBufferSize(16);
+
+        simpleMeterRegistry = new SimpleMeterRegistry();
+
+        exportManager = new ExportManager(exportProperties, new NamedParameterJdbcTemplate(jdbcTemplate),
+                new DataSourceTransactionManager(driverManagerDataSource), new ObjectMapper(), simpleMeterRegistry);
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, long id, String username, String role, boolean disabled,
+                               String createdOn) {
+        jdbcTemplate.update("INSERT INTO `user` (id, username, email, password, role, disabled, created_on) "
+                        + "VALUES (?, ?, ?, 'secret', ?, ?, ?)",
+                id, username, "username" + id + "@email.com", role, disabled, Timestamp.from(Instant.parse(createdOn)));
+    }
+
+    private String export(ExportRequest exportRequest, MediaType mediaType) throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        exportManager.exportUsers(exportRequest, mediaType, byteArrayOutputStream);
+        return byteArrayOutputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void csvExportPagesThroughAllUsersInIdOrder() throws Exception {
+        String content = export(new ExportRequest(), ExportManager.csv);
+
+        List<String> lines = content.lines().toList();
+        assertEquals(6, lines.size());
+        assertEquals("id,username,email,role,disabled,created_on,last_login", lines.get(0));
+        assertEquals("1,username1,username1@email.com,ADMIN,false,2024-01-03T00:00:00Z,", lines.get(1));
+        assertEquals("3,\"user,\"\"name\"\"3\",username3@email.com,USER,false,2024-01-02T00:00:00Z,", lines.get(3));
+        assertTrue(lines.get(5).startsWith("5,"));
+        assertFalse(content.contains("secret"));
+        assertEquals(5, simpleMeterRegistry.get("ascent.export.users").tag("format", "csv").counter().count());
+    }
+
+    @Test
+    public void ndjsonExportAppliesRoleAndDisabledFilters() throws Exception {
+        ExportRequest exportRequest = new ExportRequest();
+        exportRequest.setRole(Role.USER);
+        exportRequest.setDisabled(false);
+
+        List<String> lines = export(exportRequest, ExportManager.ndjson).lines().toList();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Long> ids = lines.stream().map(line -> {
+            try {
+                JsonNode jsonNode = objectMapper.readTree(line);
+                assertFalse(jsonNode.has("password"));
+                return jsonNode.get("id").asLong();
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }).toList();
+        assertEquals(List.of(2L, 3L, 5L), ids);
+    }
+
+    @Test
+    public void createdRangeExportPagesByCreatedOnThenId() throws Exception {
+        ExportRequest exportRequest = new ExportRequest();
+        exportRequest.setCreatedFrom(Instant.parse("2024-01-02T00:00:00Z"));
+        exportRequest.setCreatedTo(Instant.parse("2024-01-03T00:00:00Z"));
+
+        List<String> lines = export(exportRequest, ExportManager.csv).lines().skip(1).toList();
+
+        assertEquals(List.of("3", "4", "5"), lines.stream().map(line -> line.substring(0, 1)).toList());
+    }
+
+    @Test
+    public void emptyExportWritesOnlyHeader() throws Exception {
+        ExportRequest exportRequest = new ExportRequest();
+        exportRequest.setRole(Role.ADMIN);
+        exportRequest.setDisabled(true);
+
+        assertEquals("id,username,email,role,disabled,created_on,last_login\r\n", export(exportRequest, ExportManager.csv));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+package org.ascent.units.managers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.enums.ImportOutcome;
+import org.ascent.exceptions.ImportInProgressException;
+import org.ascent.generators.SnowflakeIdGenerator;
+import org.ascent.imports.ImportReport;
+import org.ascent.managers.ImportManager;
+import org.ascent.properties.ImportProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImportManagerTest {
+
+    private final static String passwordHash = new BCryptPasswordEncoder(4).encode("password");
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    private ImportManager importManager;
+
+    @BeforeEach
+    public void beforeEach() {
+        DriverManagerDataSource driverManagerDataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:import;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+
+        jdbcTemplate = new JdbcTemplate(driverManagerDataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `user`");
+        jdbcTemplate.execute("CREATE TABLE `user` (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "username VARCHAR_IGNORECASE(255) UNIQUE, email VARCHAR(255) UNIQUE, email_canonical VARCHAR(255) UNIQUE, "
+                + "password VARCHAR(60), role VARCHAR(16), disabled BOOLEAN, created_on TIMESTAMP, last_login TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO `user` (username, email, email_canonical, password, role, disabled) "
+                + "VALUES ('existing', 'Existing@email.com', 'existing@email.com', ?, 'USER', false)", passwordHash);
+
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.setBatchSize(2);
+        importProperties.setParallelism(2);
+        importProperties.setMaxRejects(3);
+
+        simpleMeterRegistry = new SimpleMeterRegistry();
+
+        importManager = new ImportManager(importProperties,
+                new SnowflakeIdGenerator(1, Instant.parse("2024-01-01T00:00:00Z"), Clock.systemUTC()), jdbcTemplate,
+                new NamedParameterJdbcTemplate(jdbcTemplate),
+                new TransactionTemplate(new DataSourceTransactionManager(driverManagerDataSource)),
+                new ObjectMapper(), simpleMeterRegistry);
+    }
+
+    private ImportReport importUsers(String mediaType, String content) throws Exception {
+        return importManager.importUsers(MediaType.parseMediaType(mediaType),
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void csvRowsAreImportedWithHashedPasswords() throws Exception {
+        ImportReport importReport = importUsers("text/csv", "username,email,password\n"
+                + "username,Username@Email.com,password\n"
+                + "username2,username2@email.com,password2\n"
+                + "username3,username3@email.com,password3\n");
+
+        assertEquals(3, importReport.getRead());
+        assertEquals(3, importReport.getImported());
+        assertEquals(0, importReport.getRejected());
+
+        String password = jdbcTemplate.queryForObject(
+                "SELECT password FROM `user` WHERE email_canonical = 'username@email.com'", String.class);
+        assertTrue(new BCryptPasswordEncoder().matches("password", password));
+        assertEquals("Username@Email.com", jdbcTemplate.queryForObject(
+                "SELECT email FROM `user` WHERE username = 'username'", String.class));
+    }
+
+    @Test
+    public void ndjsonRowsWithPasswordHashAreImportedAsIs() throws Exception {
+        ImportReport importReport = importUsers("application/x-ndjson",
+                "{\"username\":\"username\",\"email\":\"username@email.com\",\"passwordHash\":\"" + passwordHash + "\"}\n");
+
+        assertEquals(1, importReport.getImported());
+        assertEquals(passwordHash, jdbcTemplate.queryForObject(
+                "SELECT password FROM `user` WHERE username = 'username'", String.class));
+    }
+
+    @Test
+    public void rejectedRowsAreCountedByOutcome() throws Exception {
+        ImportReport importReport = importUsers("text/csv", "username,email,password_hash\n"
+                + "username," + "username@email.com," + passwordHash + "\n"
+                + "USERNAME,other@email.com," + passwordHash + "\n"
+                + "other,USERNAME@email.com," + passwordHash + "\n"
+                + "x,x@email.com," + passwordHash + "\n"
+                + "username2,invalid," + passwordHash + "\n"
+                + "username3,username3@email.com,plain\n"
+                + "username5,EXISTING@email.com," + passwordHash + "\n"
+                + "Existing,username6@email.com," + passwordHash + "\n"
+                + "\"username4,username4@email.com," + passwordHash + "\n");
+
+        assertEquals(9, importReport.getRead());
+        assertEquals(1, importReport.getImported());
+        assertEquals(8, importReport.getRejected());
+        assertEquals(2, importReport.getCounts().get(ImportOutcome.DUPLICATE));
+        assertEquals(1, importReport.getCounts().get(ImportOutcome.INVALID_USERNAME));
+        assertEquals(1, importReport.getCounts().get(ImportOutcome.INVALID_EMAIL));
+        assertEquals(1, importReport.getCounts().get(ImportOutcome.INVALID_PASSWORD));
+        assertEquals(1, importReport.getCounts().get(ImportOutcome.MALFORMED));
+        assertEquals(2, importReport.getCounts().get(ImportOutcome.EXISTING));
+        assertEquals(3, importReport.getRejects().size());
+        assertEquals(3, importReport.getRejects().get(0).getLine());
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `user`", Integer.class));
+        assertEquals(2, simpleMeterRegistry.get("ascent.import.users").tag("outcome", "existing").counter().count());
+    }
+
+    @Test
+    public void rowsIgnoredByInsertAreReportedAsExistingWithTheirLine() throws Exception {
+        jdbcTemplate.update("INSERT INTO `user` (username, email, password, role, disabled) "
+                + "VALUES ('legacy', 'legacy@email.com', ?, 'USER', false)", passwordHash);
+
+        ImportReport importReport = importUsers("text/csv", "username,email,password_hash\n"
+                + "username,username@email.com," + passwordHash + "\n"
+                + "username2,legacy@email.com," + passwordHash + "\n");
+
+        assertEquals(1, importReport.getImported());
+        assertEquals(1, importReport.getCounts().get(ImportOutcome.EXISTING));
+        assertEquals(3, importReport.getRejects().get(0).getLine());
+        assertEquals(ImportOutcome.EXISTING, importReport.getRejects().get(0).getOutcome());
+    }
+
+    @Test
+    public void concurrentImportThrowsImportInProgressException() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream blockingInputStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                reading.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+
+                return -1;
+            }
+        };
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<ImportReport> first = executorService.submit(
+                    () -> importManager.importUsers(MediaType.parseMediaType("text/csv"), blockingInputStream));
+            assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ImportInProgressException.class, () -> importUsers("text/csv",
+                    "username,email,password\n"));
+
+            release.countDown();
+            assertEquals(0, first.get(5, TimeUnit.SECONDS).getRead());
+            assertEquals(0, importUsers("text/csv", "username,email,password\n").getRead());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void csvWithoutRequiredHeaderThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> importUsers("text/csv", "name,mail\n"));
+    }
+}
\ No newline at end of file
@@ -1,12 +1,15 @@
 package org.ascent.units.managers;
 
 import jakarta.servlet.http.HttpServletRequest;
-import org.ascent.entities.User;
+import org.ascent.caches.CredentialCache;
+import org.ascent.caches.UserCredentials;
+import org.ascent.enums.LoginOutcome;
+import org.ascent.events.LoginEventWriter;
 import org.ascent.exceptions.InvalidCredentialsException;
 import org.ascent.exceptions.UserDisabledException;
 import org.ascent.managers.LoginManager;
-import org.ascent.repositories.UserRepository;
 import org.ascent.requests.LoginRequest;
+import org.ascent.runners.WarmupRequests;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -24,7 +27,10 @@ public class LoginManagerTest {
     private LoginManager loginManager;
 
     @Mock
-    private UserRepository mockUserRepository;
+    private CredentialCache mockCredentialCache;
+
+    @Mock
+    private LoginEventWriter mockLoginEventWriter;
 
     @Test
     public void requestWithNonExistingUserThrowsInvalidCredentialsException() {
@@ -32,10 +38,12 @@ public class LoginManagerTest {
 
         LoginRequest mockLoginRequest = mock();
 
-        when(mockUserRepository.findByEmail(any())).thenReturn(null);
+        when(mockCredentialCache.get(any())).thenReturn(null);
 
         assertThrows(InvalidCredentialsException.class,
                 () -> loginManager.login(mockHttpServletRequest, mockLoginRequest));
+
+        verify(mockLoginEventWriter, times(1)).record(isNull(), any(), any(), eq(LoginOutcome.INVALID_CREDENTIALS));
     }
 
     @Test
@@ -48,11 +56,11 @@ public class LoginManagerTest {
 
         BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
 
-        User mockUser = mock();
-        when(mockUser.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
-        when(mockUser.isDisabled()).thenReturn(false);
+        UserCredentials mockUserCredentials = mock();
+        when(mockUserCredentials.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
+        when(mockUserCredentials.isDisabled()).thenReturn(false);
 
-        when(mockUserRepository.findByEmail(any())).thenReturn(mockUser);
+        when(mockCredentialCache.get(any())).thenReturn(mockUserCredentials);
 
         assertDoesNotThrow(() -> loginManager.login(mockHttpServletRequest, mockLoginRequest));
     }
@@ -63,13 +71,15 @@ public class LoginManagerTest {
 
         LoginRequest mockLoginRequest = mock();
 
-        User mockUser = mock();
-        when(mockUser.isDisabled()).thenReturn(true);
+        UserCredentials mockUserCredentials = mock();
+        when(mockUserCredentials.isDisabled()).thenReturn(true);
 
-        when(mockUserRepository.findByEmail(any())).thenReturn(mockUser);
+        when(mockCredentialCache.get(any())).thenReturn(mockUserCredentials);
 
         assertThrows(UserDisabledException.class,
                 () -> loginManager.login(mockHttpServletRequest, mockLoginRequest));
+
+        verify(mockLoginEventWriter, times(1)).record(any(), any(), any(), eq(LoginOutcome.DISABLED));
     }
 
     @Test
@@ -81,10 +91,10 @@ public class LoginManagerTest {
 
         BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
 
-        User mockUser = mock();
-        when(mockUser.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password2"));
+        UserCredentials mockUserCredentials = mock();
+        when(mockUserCredentials.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password2"));
 
-        when(mockUserRepository.findByEmail(any())).thenReturn(mockUser);
+        when(mockCredentialCache.get(any())).thenReturn(mockUserCredentials);
 
         assertThrows(InvalidCredentialsException.class,
                 () -> loginManager.login(mockHttpServletRequest, mockLoginRequest));
@@ -100,10 +110,10 @@ public class LoginManagerTest {
 
         BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
 
-        User mockUser = mock();
-        when(mockUser.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
+        UserCredentials mockUserCredentials = mock();
+        when(mockUserCredentials.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
 
-        when(mockUserRepository.findByEmail(any())).thenReturn(mockUser);
+        when(mockCredentialCache.get(any())).thenReturn(mockUserCredentials);
 
         assertThrows(IllegalStateException.class,
                 () -> loginManager.login(mockHttpServletRequest, mockLoginRequest));
@@ -120,10 +130,10 @@ public class LoginManagerTest {
 
         BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
 
-        User mockUser = mock();
-        when(mockUser.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
+        UserCredentials mockUserCredentials = mock();
+        when(mockUserCredentials.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
 
-        when(mockUserRepository.findByEmail(any())).thenReturn(mockUser);
+        when(mockCredentialCache.get(any())).thenReturn(mockUserCredentials);
 
         loginManager.login(mockHttpServletRequest, mockLoginRequest);
 
@@ -142,10 +152,10 @@ public class LoginManagerTest {
 
         BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
 
-        User mockUser = mock();
-        when(mockUser.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
+        UserCredentials mockUserCredentials = mock();
+        when(mockUserCredentials.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
 
-        when(mockUserRepository.findByEmail(any())).thenReturn(mockUser);
+        when(mockCredentialCache.get(any())).thenReturn(mockUserCredentials);
 
         loginManager.login(mockHttpServletRequest, mockLoginRequest);
 
@@ -155,23 +165,43 @@ public class LoginManagerTest {
     }
 
     @Test
-    public void requestWithoutExceptionThrownUpdatesUser() {
+    public void requestWithoutExceptionThrownRecordsSuccessfulLoginEvent() {
         HttpServletRequest mockHttpServletRequest = mock();
         when(mockHttpServletRequest.getSession(anyBoolean())).thenReturn(new MockHttpSession(), new MockHttpSession());
+        when(mockHttpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
 
         LoginRequest mockLoginRequest = mock();
+        when(mockLoginRequest.getEmail()).thenReturn("Username@Email.com");
         when(mockLoginRequest.getPassword()).thenReturn("password");
 
         BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
 
-        User mockUser = mock();
-        when(mockUser.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
+        UserCredentials mockUserCredentials = mock();
+        when(mockUserCredentials.getId()).thenReturn(1L);
+        when(mockUserCredentials.getPassword()).thenReturn(bCryptPasswordEncoder.encode("password"));
 
-        when(mockUserRepository.findByEmail(any())).thenReturn(mockUser);
+        when(mockCredentialCache.get(any())).thenReturn(mockUserCredentials);
 
         loginManager.login(mockHttpServletRequest, mockLoginRequest);
 
-        verify(mockUser, times(1)).setLastLogin(any());
-        verify(mockUserRepository, times(1)).save(any(User.class));
+        verify(mockLoginEventWriter, times(1)).record(1L, "username@email.com", "127.0.0.1", LoginOutcome.SUCCESS);
+    }
+
+    @Test
+    public void warmupRequestDoesNotRecordLoginEvent() {
+        HttpServletRequest mockHttpServletRequest = mock();
+        when(mockHttpServletRequest.getSession(anyBoolean())).thenReturn(new MockHttpSession(), new MockHttpSession());
+        when(mockHttpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(mockHttpServletRequest.getHeader(WarmupRequests.header)).thenReturn(WarmupRequests.token());
+
+        LoginRequest mockLoginRequest = mock();
+        when(mockLoginRequest.getEmail()).thenReturn("username@email.com");
+        when(mockLoginRequest.getPassword()).thenReturn("password");
+
+        when(mockCredentialCache.get(any())).thenReturn(null);
+
+        assertThrows(InvalidCredentialsException.class, () -> loginManager.login(mockHttpServletRequest, mockLoginRequest));
+
+        verifyNoInteractions(mockLoginEventWriter);
     }
 }
\ No newline at end of file
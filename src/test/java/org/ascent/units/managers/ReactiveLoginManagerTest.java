@@ -0,0 +1,110 @@
+package org.ascent.units.managers;
+
+import org.ascent.caches.UserCredentials;
+import org.ascent.enums.LoginOutcome;
+import org.ascent.enums.Role;
+import org.ascent.events.LoginEventWriter;
+import org.ascent.exceptions.InvalidCredentialsException;
+import org.ascent.exceptions.UserDisabledException;
+import org.ascent.managers.ReactiveLoginManager;
+import org.ascent.repositories.ReactiveUserRepository;
+import org.ascent.requests.LoginRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.server.MockWebSession;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class ReactiveLoginManagerTest {
+
+    private ReactiveLoginManager reactiveLoginManager;
+
+    @Mock
+    private ReactiveUserRepository mockReactiveUserRepository;
+
+    @Mock
+    private LoginEventWriter mockLoginEventWriter;
+
+    @BeforeEach
+    public void beforeEach() {
+        reactiveLoginManager = new ReactiveLoginManager(mockReactiveUserRepository, mockLoginEventWriter,
+                Schedulers.immediate());
+    }
+
+    @Test
+    public void requestWithNonExistingUserErrorsWithInvalidCredentialsException() {
+        MockWebSession mockWebSession = new MockWebSession();
+
+        when(mockReactiveUserRepository.findCredentialsByEmailCanonical(any())).thenReturn(Mono.empty());
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> reactiveLoginManager.login(mockWebSession, loginRequest("password"), "127.0.0.1", true).block());
+
+        verify(mockLoginEventWriter, times(1)).record(isNull(), eq("email@email.com"), eq("127.0.0.1"),
+                eq(LoginOutcome.INVALID_CREDENTIALS));
+        assertTrue(mockWebSession.getAttributes().isEmpty());
+    }
+
+    @Test
+    public void requestWithDisabledUserErrorsWithUserDisabledException() {
+        MockWebSession mockWebSession = new MockWebSession();
+
+        when(mockReactiveUserRepository.findCredentialsByEmailCanonical(any()))
+                .thenReturn(Mono.just(userCredentials(true)));
+
+        assertThrows(UserDisabledException.class,
+                () -> reactiveLoginManager.login(mockWebSession, loginRequest("password"), "127.0.0.1", true).block());
+
+        verify(mockLoginEventWriter, times(1)).record(eq(1L), any(), any(), eq(LoginOutcome.DISABLED));
+    }
+
+    @Test
+    public void requestWithWrongPasswordErrorsWithInvalidCredentialsException() {
+        MockWebSession mockWebSession = new MockWebSession();
+
+        when(mockReactiveUserRepository.findCredentialsByEmailCanonical(any()))
+                .thenReturn(Mono.just(userCredentials(false)));
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> reactiveLoginManager.login(mockWebSession, loginRequest("wrong"), "127.0.0.1", true).block());
+
+        verify(mockLoginEventWriter, times(1)).record(eq(1L), any(), any(), eq(LoginOutcome.INVALID_CREDENTIALS));
+        assertTrue(mockWebSession.getAttributes().isEmpty());
+    }
+
+    @Test
+    public void requestWithValidCredentialsStartsSession() {
+        MockWebSession mockWebSession = new MockWebSession();
+        String id = mockWebSession.getId();
+
+        when(mockReactiveUserRepository.findCredentialsByEmailCanonical(any()))
+                .thenReturn(Mono.just(userCredentials(false)));
+
+        reactiveLoginManager.login(mockWebSession, loginRequest("password"), "127.0.0.1", true).block();
+
+        assertNotEquals(id, mockWebSession.getId());
+        assertEquals(true, mockWebSession.getAttribute("logged"));
+        assertEquals("username", mockWebSession.getAttribute("username"));
+        assertEquals(Role.USER, mockWebSession.getAttribute("role"));
+        verify(mockLoginEventWriter, times(1)).record(eq(1L), any(), any(), eq(LoginOutcome.SUCCESS));
+    }
+
+    private static LoginRequest loginRequest(String password) {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("email@email.com");
+        loginRequest.setPassword(password);
+        return loginRequest;
+    }
+
+    private static UserCredentials userCredentials(boolean disabled) {
+        return new UserCredentials(1L, "username", "email@email.com",
+                new BCryptPasswordEncoder(4).encode("password"), disabled, Role.USER);
+    }
+}
\ No newline at end of file
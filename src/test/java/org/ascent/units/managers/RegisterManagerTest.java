@@ -1,5 +1,6 @@
 package org.ascent.units.managers;
 
+import org.ascent.datasources.ReadYourWritesRegistry;
 import org.ascent.entities.User;
 import org.ascent.exceptions.EmailAlreadyInUseException;
 import org.ascent.exceptions.UsernameAlreadyInUseException;
@@ -23,6 +24,9 @@ public class RegisterManagerTest {
     @Mock
     private UserRepository mockUserRepository;
 
+    @Mock
+    private ReadYourWritesRegistry mockReadYourWritesRegistry;
+
     @Test
     public void requestWithExistingUsernameThrowsUsernameAlreadyInUseException() {
         RegisterRequest mockRegisterRequest = mock();
@@ -0,0 +1,78 @@
+package org.ascent.units.migrations;
+
+import org.ascent.migrations.UserEmailCanonicalBackfill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserEmailCanonicalBackfillTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private UserEmailCanonicalBackfill userEmailCanonicalBackfill;
+
+    @BeforeEach
+    public void beforeEach() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:backfill;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `user`");
+        jdbcTemplate.execute("CREATE TABLE `user` (id BIGINT PRIMARY KEY, email VARCHAR(255), "
+                + "email_canonical VARCHAR(255) UNIQUE)");
+
+        userEmailCanonicalBackfill = new UserEmailCanonicalBackfill(jdbcTemplate);
+    }
+
+    private List<String> canonicalEmails() {
+        return jdbcTemplate.queryForList("SELECT email_canonical FROM `user` ORDER BY id", String.class);
+    }
+
+    @Test
+    public void rowsWrittenWithoutCanonicalEmailAreBackfilled() {
+        jdbcTemplate.update("INSERT INTO `user` (id, email, email_canonical) VALUES (1, 'Kept@Email.com', 'kept@email.com')");
+        jdbcTemplate.update("INSERT INTO `user` (id, email) VALUES (2, ' Username@Email.com ')");
+        jdbcTemplate.update("INSERT INTO `user` (id, email) VALUES (3, 'other@email.com')");
+
+        userEmailCanonicalBackfill.maintain();
+
+        assertEquals(List.of("kept@email.com", "username@email.com", "other@email.com"), canonicalEmails());
+    }
+
+    @Test
+    public void repeatedRunsPickUpRowsWrittenInBetween() {
+        jdbcTemplate.update("INSERT INTO `user` (id, email) VALUES (1, 'First@Email.com')");
+        userEmailCanonicalBackfill.maintain();
+
+        jdbcTemplate.update("INSERT INTO `user` (id, email) VALUES (2, 'Second@Email.com')");
+        userEmailCanonicalBackfill.maintain();
+
+        assertEquals(List.of("first@email.com", "second@email.com"), canonicalEmails());
+    }
+
+    @Test
+    public void conflictingRowIsSkippedWithoutFailingItsChunk() {
+        jdbcTemplate.update("INSERT INTO `user` (id, email, email_canonical) VALUES (1, 'taken@email.com', 'taken@email.com')");
+        jdbcTemplate.update("INSERT INTO `user` (id, email) VALUES (2, 'Before@Email.com')");
+        jdbcTemplate.update("INSERT INTO `user` (id, email) VALUES (3, 'Taken@Email.com')");
+        jdbcTemplate.update("INSERT INTO `user` (id, email) VALUES (4, 'After@Email.com')");
+        jdbcTemplate.update("INSERT INTO `user` (id) VALUES (5)");
+
+        userEmailCanonicalBackfill.maintain();
+        userEmailCanonicalBackfill.maintain();
+
+        assertEquals(Arrays.asList("taken@email.com", "before@email.com", null, "after@email.com", null),
+                canonicalEmails());
+    }
+
+    @Test
+    public void failureIsLoggedInsteadOfThrown() {
+        jdbcTemplate.execute("DROP TABLE `user`");
+
+        assertDoesNotThrow(() -> userEmailCanonicalBackfill.maintain());
+    }
+}
\ No newline at end of file
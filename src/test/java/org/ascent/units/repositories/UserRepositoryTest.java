@@ -96,6 +96,19 @@ public class UserRepositoryTest extends ContainerEnvironment {
         assertTrue(userRepository.existsByEmail(email));
     }
 
+    private static Stream<String> checkIfSavedUserExistsByEmailIgnoringCase() {
+        return Stream.of("Username@Email.com", " USERNAME2@EMAIL.COM ");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void checkIfSavedUserExistsByEmailIgnoringCase(String email) {
+        assumeTrue(mySQLContainer.isCreated());
+        assumeTrue(mySQLContainer.isRunning());
+
+        assertTrue(userRepository.existsByEmail(email));
+    }
+
     private static Stream<String> checkIfNotSavedUserExistsByEmail() {
         return Stream.of("username3@email.com", "username4@email.com");
     }
@@ -144,6 +157,27 @@ public class UserRepositoryTest extends ContainerEnvironment {
         );
     }
 
+    private static Stream<Arguments> checkIfSavedUserIsReturnedByFindByEmailIgnoringCase() {
+        return Stream.of(
+                arguments("username", "Username@Email.com"),
+                arguments("username2", " USERNAME2@EMAIL.COM ")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void checkIfSavedUserIsReturnedByFindByEmailIgnoringCase(String username, String email) {
+        assumeTrue(mySQLContainer.isCreated());
+        assumeTrue(mySQLContainer.isRunning());
+
+        User user = userRepository.findByEmail(email);
+        assertAll(
+                () -> assertNotNull(user),
+                () -> assertEquals(username, user.getUsername()),
+                () -> assertEquals(User.canonicalEmail(email), user.getEmailCanonical())
+        );
+    }
+
     private static Stream<String> checkIfNotSavedUserIsReturnedByFindByEmail() {
         return Stream.of("username3@email.com", "username4@email.com");
     }
@@ -0,0 +1,63 @@
+package org.ascent.units.resolvers;
+
+import org.ascent.resolvers.WebJarManifestResourceResolver;
+import org.ascent.tools.WebJarManifestGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WebJarManifestResourceResolverTest {
+
+    private WebJarManifestResourceResolver webJarManifestResourceResolver;
+
+    @BeforeEach
+    public void beforeEach() {
+        webJarManifestResourceResolver = new WebJarManifestResourceResolver(WebJarManifestGenerator.manifestLocation);
+    }
+
+    private static Stream<String> versionlessPathOfKnownWebJarIsVersioned() {
+        return Stream.of("bootstrap/css/bootstrap.min.css", "font-awesome/css/all.min.css", "htmx.org/dist/htmx.min.js");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void versionlessPathOfKnownWebJarIsVersioned(String path) {
+        String webJar = path.substring(0, path.indexOf('/'));
+        String versionedPath = webJarManifestResourceResolver.versionedPath(path);
+
+        assertAll(
+                () -> assertNotEquals(path, versionedPath),
+                () -> assertTrue(versionedPath.startsWith(webJar + "/")),
+                () -> assertTrue(versionedPath.endsWith(path.substring(webJar.length())))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("versionlessPathOfKnownWebJarIsVersioned")
+    public void versionedPathIsNotVersionedTwice(String path) {
+        String versionedPath = webJarManifestResourceResolver.versionedPath(path);
+
+        assertEquals(versionedPath, webJarManifestResourceResolver.versionedPath(versionedPath));
+    }
+
+    @Test
+    public void pathWithLeadingSlashIsVersioned() {
+        assertEquals("/" + webJarManifestResourceResolver.versionedPath("bootstrap/css/bootstrap.min.css"),
+                webJarManifestResourceResolver.versionedPath("/bootstrap/css/bootstrap.min.css"));
+    }
+
+    private static Stream<String> pathOfUnknownWebJarIsNotChanged() {
+        return Stream.of("unknown/css/unknown.css", "bootstrap", "");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void pathOfUnknownWebJarIsNotChanged(String path) {
+        assertEquals(path, webJarManifestResourceResolver.versionedPath(path));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package org.ascent.units.runners;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ascent.properties.WarmupProperties;
+import org.ascent.repositories.UserRepository;
+import org.ascent.runners.WarmupRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WarmupRunnerTest {
+
+    private WarmupProperties warmupProperties;
+
+    private UserRepository mockUserRepository;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+
+    private WarmupRunner warmupRunner;
+
+    @BeforeEach
+    public void beforeEach() {
+        warmupProperties = new WarmupProperties();
+        warmupProperties.setIterations(3);
+        warmupProperties.setHashIterations(1);
+
+        mockUserRepository = mock();
+        simpleMeterRegistry = new SimpleMeterRegistry();
+
+        warmupRunner = new WarmupRunner(warmupProperties, mockUserRepository, simpleMeterRegistry, new MockEnvironment());
+    }
+
+    @Test
+    public void runWithWarmupDisabledDoesNothing() {
+        warmupProperties.setEnabled(false);
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(mockUserRepository);
+        assertNull(simpleMeterRegistry.find("ascent.warmup").timer());
+    }
+
+    @Test
+    public void runWithWarmupEnabledPrimesQueriesWithSyntheticData() {
+        warmupProperties.setEnabled(true);
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        verify(mockUserRepository, times(3)).findByEmail(warmupProperties.getEmail());
+        verify(mockUserRepository, times(3)).existsByUsername(warmupProperties.getUsername());
+        verify(mockUserRepository, times(3)).existsByEmail(warmupProperties.getEmail());
+        verify(mockUserRepository, never()).save(any());
+    }
+
+    @Test
+    public void runWithWarmupEnabledRecordsWarmupTimer() {
+        warmupProperties.setEnabled(true);
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        Timer timer = simpleMeterRegistry.find("ascent.warmup").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    public void runWithFailingStageStillRecordsWarmupTimer() {
+        warmupProperties.setEnabled(true);
+        when(mockUserRepository.findByEmail(any())).thenThrow(new RuntimeException("RuntimeException"));
+
+        assertDoesNotThrow(() -> warmupRunner.run(new DefaultApplicationArguments()));
+        assertNotNull(simpleMeterRegistry.find("ascent.warmup").timer());
+    }
+
+    @Test
+    public void runPastDeadlineSkipsRemainingStagesAndRecordsWarmupTimer() {
+        warmupProperties.setEnabled(true);
+        warmupProperties.setTimeout(Duration.ZERO);
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(mockUserRepository);
+        assertNotNull(simpleMeterRegistry.find("ascent.warmup").timer());
+    }
+
+    @Test
+    public void runAgainstUnresponsiveServerGivesUpAfterRequestTimeout() throws Exception {
+        warmupProperties.setEnabled(true);
+        warmupProperties.setRequestTimeout(Duration.ofMillis(200));
+
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            MockEnvironment mockEnvironment = new MockEnvironment();
+            mockEnvironment.setProperty("local.server.port", String.valueOf(serverSocket.getLocalPort()));
+            warmupRunner = new WarmupRunner(warmupProperties, mockUserRepository, simpleMeterRegistry, mockEnvironment);
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> warmupRunner.run(new DefaultApplicationArguments()));
+        }
+
+        assertNotNull(simpleMeterRegistry.find("ascent.warmup").timer());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package org.ascent.units.validators;
+
+import org.ascent.exceptions.InvalidCredentialsException;
+import org.ascent.exceptions.InvalidEmailException;
+import org.ascent.exceptions.InvalidPasswordException;
+import org.ascent.exceptions.InvalidUsernameException;
+import org.ascent.requests.LoginRequest;
+import org.ascent.requests.RegisterRequest;
+import org.ascent.validators.CredentialValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CredentialValidatorTest {
+
+    private CredentialValidator credentialValidator;
+
+    @BeforeEach
+    public void beforeEach() {
+        credentialValidator = new CredentialValidator();
+    }
+
+    private static LoginRequest loginRequest(String email, String password) {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword(password);
+        return loginRequest;
+    }
+
+    private static RegisterRequest registerRequest(String username, String email, String password) {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setUsername(username);
+        registerRequest.setEmail(email);
+        registerRequest.setPassword(password);
+        return registerRequest;
+    }
+
+    @Test
+    public void validateWithValidLoginRequestDoesNotThrow() {
+        assertDoesNotThrow(() -> credentialValidator.validate(loginRequest("username@email.com", "password")));
+    }
+
+    @Test
+    public void validateWithLongLegacyPasswordLoginRequestDoesNotThrow() {
+        assertDoesNotThrow(() -> credentialValidator.validate(loginRequest("username@email.com", "p".repeat(100))));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"username", "@email.com"})
+    public void validateWithInvalidLoginEmailThrowsInvalidCredentialsException(String email) {
+        assertThrows(InvalidCredentialsException.class, () -> credentialValidator.validate(loginRequest(email, "password")));
+    }
+
+    @Test
+    public void validateWithOversizedLoginRequestThrowsInvalidCredentialsException() {
+        assertThrows(InvalidCredentialsException.class,
+                () -> credentialValidator.validate(loginRequest("a".repeat(300) + "@email.com", "password")));
+        assertThrows(InvalidCredentialsException.class,
+                () -> credentialValidator.validate(loginRequest("username@email.com", "p".repeat(1025))));
+        assertThrows(InvalidCredentialsException.class,
+                () -> credentialValidator.validate(loginRequest("username@email.com", null)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "user.name", "user-name_2", "UserName", "a234567890123456789012345678901b"})
+    public void validateWithValidUsernameDoesNotThrow(String username) {
+        assertDoesNotThrow(() -> credentialValidator.validate(registerRequest(username, "username@email.com", "password")));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"ab", "user name", "user@name", "usérname", "a234567890123456789012345678901bc"})
+    public void validateWithInvalidUsernameThrowsInvalidUsernameException(String username) {
+        assertThrows(InvalidUsernameException.class,
+                () -> credentialValidator.validate(registerRequest(username, "username@email.com", "password")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"username@email.com", "user.name+tag@sub.email.com", "user@localhost", "a@b-c.io", "x!#$%&'*/=?^_`{|}~@email.com"})
+    public void validateWithValidEmailDoesNotThrow(String email) {
+        assertDoesNotThrow(() -> credentialValidator.validate(registerRequest("username", email, "password")));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"username", "@email.com", "username@", "user@name@email.com", "user name@email.com",
+            "username@email..com", "username@.email.com", "username@email.com.", "username@-email.com",
+            "username@email-.com", "username@em_ail.com", "usérname@email.com", "username@émail.com"})
+    public void validateWithInvalidEmailThrowsInvalidEmailException(String email) {
+        assertThrows(InvalidEmailException.class, () -> credentialValidator.validate(registerRequest("username", email, "password")));
+    }
+
+    @Test
+    public void validateWithOversizedEmailThrowsInvalidEmailException() {
+        String email = "username@" + "a".repeat(63) + "." + "b".repeat(63) + "." + "c".repeat(63) + "." + "d".repeat(50) + ".com";
+
+        assertThrows(InvalidEmailException.class, () -> credentialValidator.validate(registerRequest("username", email, "password")));
+        assertThrows(InvalidEmailException.class,
+                () -> credentialValidator.validate(registerRequest("username", "username@" + "a".repeat(64) + ".com", "password")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"password", "pässwörd", "🔑🔑🔑🔑🔑🔑🔑🔑", "ääääääääääääääääääääääääääääääääääää"})
+    public void validateWithValidPasswordDoesNotThrow(String password) {
+        assertDoesNotThrow(() -> credentialValidator.validate(registerRequest("username", "username@email.com", password)));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"passwor", "🔑", "🔑🔑🔑🔑🔑🔑🔑", "äääääää"})
+    public void validateWithShortPasswordThrowsInvalidPasswordException(String password) {
+        assertThrows(InvalidPasswordException.class,
+                () -> credentialValidator.validate(registerRequest("username", "username@email.com", password)));
+    }
+
+    @Test
+    public void validateWithPasswordOverBCryptLimitThrowsInvalidPasswordException() {
+        assertDoesNotThrow(() -> credentialValidator.validate(registerRequest("username", "username@email.com", "p".repeat(72))));
+        assertThrows(InvalidPasswordException.class,
+                () -> credentialValidator.validate(registerRequest("username", "username@email.com", "p".repeat(73))));
+        assertThrows(InvalidPasswordException.class,
+                () -> credentialValidator.validate(registerRequest("username", "username@email.com", "ä".repeat(37))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "password", "pässwörd", "ț€🔑", "\uD83D", "a\uDC00b"})
+    public void utf8LengthMatchesEncodedLength(String value) {
+        assertEquals(value.getBytes(StandardCharsets.UTF_8).length, CredentialValidator.utf8Length(value, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void validationExceptionsDoNotCaptureStackTraces() {
+        assertEquals(0, assertThrows(InvalidUsernameException.class,
+                () -> credentialValidator.validate(registerRequest("u", "username@email.com", "password"))).getStackTrace().length);
+        assertEquals(0, assertThrows(InvalidEmailException.class,
+                () -> credentialValidator.validate(registerRequest("username", "email", "password"))).getStackTrace().length);
+        assertEquals(0, assertThrows(InvalidPasswordException.class,
+                () -> credentialValidator.validate(registerRequest("username", "username@email.com", "p"))).getStackTrace().length);
+    }
+}
\ No newline at end of file